@@ -0,0 +1,71 @@
+package com.volunteer.management.benchmark;
+
+import com.volunteer.management.config.JwtTokenProvider;
+import com.volunteer.management.security.services.UserDetailsImpl;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.Key;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request token handling in JwtAuthenticationFilter, plus token issuing at login.
+ * legacy* reproduces the old path (decode secret + build key and parser, twice per request);
+ * parseClaimsOnce is the current path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    static final String SECRET = "dGVzdC1zZWNyZXQtdGhhdC1pcy1sb25nLWVub3VnaC1mb3ItaG1hYy1zaGEtMjU2LWtleXM=";
+
+    private JwtTokenProvider provider;
+    private String token;
+    private Authentication login;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider(SECRET, 3_600_000L);
+        token = provider.generateToken(new UsernamePasswordAuthenticationToken("volunteer", null, List.of()));
+        UserDetailsImpl principal = new UserDetailsImpl(42L, "volunteer", "volunteer@example.org", "",
+                List.of(new SimpleGrantedAuthority("ROLE_VOLUNTEER")));
+        login = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    // Login path: signed token with uid/email/roles claims
+    @Benchmark
+    public String generateToken() {
+        return provider.generateToken(login);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return provider.validateToken(token);
+    }
+
+    @Benchmark
+    public String legacyValidateThenGetUsername() {
+        Jwts.parserBuilder().setSigningKey(legacyKey()).build().parseClaimsJws(token);
+        return Jwts.parserBuilder().setSigningKey(legacyKey()).build().parseClaimsJws(token).getBody().getSubject();
+    }
+
+    @Benchmark
+    public String parseClaimsOnce() {
+        return provider.parseClaims(token).map(Claims::getSubject).orElseThrow();
+    }
+
+    private static Key legacyKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    }
+}
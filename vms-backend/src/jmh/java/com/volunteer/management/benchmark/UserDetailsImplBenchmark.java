@@ -0,0 +1,40 @@
+package com.volunteer.management.benchmark;
+
+import com.volunteer.management.entity.Role;
+import com.volunteer.management.entity.User;
+import com.volunteer.management.security.services.UserDetailsImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserDetailsImpl.build runs on every cache miss in UserDetailsServiceImpl and on
+ * every request when claims-based authentication is turned off.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserDetailsImplBenchmark {
+
+    private User user;
+
+    @Setup
+    public void setUp() {
+        user = new User();
+        user.setId(42L);
+        user.setName("Volunteer");
+        user.setUsername("volunteer");
+        user.setEmail("volunteer@example.org");
+        user.setPassword("$2a$10$abcdefghijklmnopqrstuv");
+        user.getRoles().add(new Role("ROLE_VOLUNTEER"));
+        user.getRoles().add(new Role("ROLE_ADMIN"));
+    }
+
+    @Benchmark
+    public UserDetailsImpl build() {
+        return UserDetailsImpl.build(user);
+    }
+}
@@ -0,0 +1,38 @@
+package com.volunteer.management.controller;
+
+import com.volunteer.management.entity.Role;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Primary role resolution for the profile endpoints (UserController.resolvePrimaryRole,
+ * which sorts with rolePriorityComparator). Lives in the controller package because
+ * the method is package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoleResolutionBenchmark {
+
+    @Param({"ROLE_VOLUNTEER", "ROLE_VOLUNTEER,ROLE_ADMIN", "ROLE_USER,ROLE_ORGANIZER,ROLE_VOLUNTEER,ROLE_ADMIN"})
+    public String roleNames;
+
+    private Set<Role> roles;
+
+    @Setup
+    public void setUp() {
+        roles = Arrays.stream(roleNames.split(",")).map(Role::new).collect(Collectors.toSet());
+    }
+
+    @Benchmark
+    public String resolvePrimaryRole() {
+        return UserController.resolvePrimaryRole(roles);
+    }
+}
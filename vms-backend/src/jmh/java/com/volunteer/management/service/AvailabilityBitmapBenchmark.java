@@ -0,0 +1,74 @@
+package com.volunteer.management.service;
+
+import com.volunteer.management.entity.AvailabilitySlot;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * "Who is free for this event" over N volunteers with one to three random weekly slots:
+ * the AvailabilityBitmap lookup against a linear scan of every volunteer's slots (what a
+ * query over volunteer_availability or the availability text has to do per request).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AvailabilityBitmapBenchmark {
+
+    @Param({"10000", "100000"})
+    public int volunteers;
+
+    private final LocalDateTime start = LocalDateTime.of(2030, 6, 1, 9, 0); // a Saturday
+    private final LocalDateTime end = start.plusHours(3);
+    private AvailabilityBitmap bitmap;
+    private List<List<AvailabilitySlot>> slotsByVolunteer;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        bitmap = new AvailabilityBitmap();
+        slotsByVolunteer = new ArrayList<>(volunteers);
+        for (int v = 0; v < volunteers; v++) {
+            List<AvailabilitySlot> slots = new ArrayList<>();
+            for (int s = 1 + random.nextInt(3); s > 0; s--) {
+                int from = 6 + random.nextInt(12);
+                slots.add(new AvailabilitySlot(DayOfWeek.of(1 + random.nextInt(7)),
+                        LocalTime.of(from, 0), LocalTime.of(Math.min(from + 2 + random.nextInt(6), 23), 0)));
+            }
+            slotsByVolunteer.add(slots);
+            bitmap.put(v, slots);
+        }
+    }
+
+    @Benchmark
+    public long[] bitmap() {
+        return bitmap.availableFor(start, end);
+    }
+
+    @Benchmark
+    public long[] linearScan() {
+        long[] ids = new long[volunteers];
+        int count = 0;
+        for (int v = 0; v < volunteers; v++) {
+            for (AvailabilitySlot slot : slotsByVolunteer.get(v)) {
+                if (slot.getDayOfWeek() == start.getDayOfWeek()
+                        && !slot.getStartTime().isAfter(start.toLocalTime())
+                        && !slot.getEndTime().isBefore(end.toLocalTime())) {
+                    ids[count++] = v;
+                    break;
+                }
+            }
+        }
+        return Arrays.copyOf(ids, count);
+    }
+}
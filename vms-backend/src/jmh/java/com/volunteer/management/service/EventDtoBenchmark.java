@@ -0,0 +1,82 @@
+package com.volunteer.management.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.volunteer.management.dto.EventDto;
+import com.volunteer.management.entity.Event;
+import com.volunteer.management.entity.User;
+import com.volunteer.management.entity.Volunteer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turning an event into a response: EventService.mapToDto over an in-memory event with
+ * N assigned volunteers, then Jackson serialization of the resulting EventDto.
+ * No database is involved, so this isolates the mapping and JSON cost per roster size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventDtoBenchmark {
+
+    @Param({"0", "50", "500"})
+    public int volunteers;
+
+    private EventService eventService;
+    private ObjectMapper objectMapper;
+    private Event event;
+    private EventDto dto;
+
+    @Setup
+    public void setUp() {
+        // mapToDto only touches the entity graph, none of the collaborators
+        eventService = new EventService(null, null, null, null);
+        // Same modules (JavaTimeModule etc.) Spring Boot registers for MVC
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        User organizer = user(1L, "Organizer");
+        event = new Event();
+        event.setId(1L);
+        event.setName("Beach clean-up");
+        event.setDescription("Bring gloves and water.");
+        event.setLocation("North Beach");
+        event.setStartDateTime(LocalDateTime.of(2030, 6, 1, 9, 0));
+        event.setEndDateTime(LocalDateTime.of(2030, 6, 1, 13, 0));
+        event.setSlotsAvailable(volunteers);
+        event.setOrganizer(organizer);
+        for (long i = 0; i < volunteers; i++) {
+            Volunteer volunteer = new Volunteer();
+            volunteer.setId(100 + i);
+            volunteer.setPhoneNumber("555-01" + i);
+            volunteer.setSkills("first aid, driving");
+            volunteer.setAvailability("weekends");
+            volunteer.setUser(user(100 + i, "Volunteer " + i));
+            event.getAssignedVolunteers().add(volunteer);
+        }
+        dto = eventService.mapToDto(event);
+    }
+
+    @Benchmark
+    public EventDto mapToDto() {
+        return eventService.mapToDto(event);
+    }
+
+    @Benchmark
+    public byte[] serializeEventDto() throws Exception {
+        return objectMapper.writeValueAsBytes(dto);
+    }
+
+    private static User user(Long id, String name) {
+        User user = new User();
+        user.setId(id);
+        user.setName(name);
+        user.setUsername("user" + id);
+        user.setEmail("user" + id + "@example.org");
+        return user;
+    }
+}
@@ -0,0 +1,73 @@
+package com.volunteer.management.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The in-memory part of a recommendation: finding the event's skills in its text and the
+ * top-K pass over N volunteers' feature vectors (three of 24 skills each, a random past-event
+ * count, a third available, a few hundred busy). The database lookups around it are not included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VolunteerFeaturesBenchmark {
+
+    private static final String[] SKILLS = {
+            "first aid", "driving", "cooking", "spanish", "french", "sign language", "carpentry", "painting",
+            "gardening", "tutoring", "event setup", "photography", "social media", "fundraising", "logistics",
+            "childcare", "elder care", "it support", "accounting", "translation", "music", "sports coaching",
+            "cleaning", "heavy lifting"};
+    private static final String EVENT_TEXT =
+            "Beach clean-up on Saturday. We need first aid, driving and heavy lifting; bring gloves.";
+
+    @Param({"10000", "100000"})
+    public int volunteers;
+
+    @Param({"10", "100"})
+    public int k;
+
+    private VolunteerFeatures features;
+    private long[] available;
+    private List<Long> busy;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        long[] ids = new long[volunteers];
+        for (int v = 0; v < volunteers; v++) {
+            ids[v] = v + 1;
+        }
+        VolunteerFeatures.Builder builder = new VolunteerFeatures.Builder(ids);
+        List<Long> availableIds = new ArrayList<>();
+        busy = new ArrayList<>();
+        for (long id : ids) {
+            for (int s = 0; s < 3; s++) {
+                builder.skill(id, SKILLS[random.nextInt(SKILLS.length)]);
+            }
+            builder.pastEvents(id, random.nextInt(20));
+            if (random.nextInt(3) == 0) {
+                availableIds.add(id);
+            }
+            if (random.nextInt(300) == 0) {
+                busy.add(id);
+            }
+        }
+        features = builder.build();
+        available = availableIds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @Benchmark
+    public List<VolunteerFeatures.Candidate> recommend() {
+        Set<String> skills = features.skillsMentionedIn(EVENT_TEXT);
+        return features.topK(skills, available, busy, k);
+    }
+}
@@ -2,8 +2,10 @@ package com.volunteer.management;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling // Periodic refresh of recommendation features
 public class VmsBackendApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,52 @@
+package com.volunteer.management.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Registers ConnectionPoolLimiterFilter. On by default whenever virtual threads are
+ * (spring.threads.virtual.enabled=true, honoured by Spring Boot on Java 21+), since that is
+ * when Tomcat stops bounding concurrency; app.concurrency-limit.enabled overrides either way.
+ */
+@Configuration
+@ConditionalOnExpression("${app.concurrency-limit.enabled:${spring.threads.virtual.enabled:false}}")
+public class ConcurrencyLimitConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitConfig.class);
+
+    @Bean
+    public FilterRegistrationBean<ConnectionPoolLimiterFilter> connectionPoolLimiterFilter(
+            DataSource dataSource, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${app.concurrency-limit.permits:0}") int permits,
+            @Value("${app.concurrency-limit.permits-per-connection:1}") int permitsPerConnection,
+            @Value("${app.concurrency-limit.max-wait:2s}") Duration maxWait,
+            @Value("${app.concurrency-limit.retry-after-seconds:1}") long retryAfterSeconds) throws SQLException {
+        int limit = permits > 0 ? permits : poolSize(dataSource) * permitsPerConnection;
+        log.info("Limiting concurrent requests to {} (max wait {})", limit, maxWait);
+        FilterRegistrationBean<ConnectionPoolLimiterFilter> registration = new FilterRegistrationBean<>(
+                new ConnectionPoolLimiterFilter(limit, maxWait, retryAfterSeconds, objectMapper, meterRegistry));
+        // After the metrics/logging filters so rejected requests are still measured
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    private static int poolSize(DataSource dataSource) throws SQLException {
+        if (dataSource.isWrapperFor(HikariDataSource.class)) {
+            return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+        }
+        return 10; // HikariCP's default
+    }
+}
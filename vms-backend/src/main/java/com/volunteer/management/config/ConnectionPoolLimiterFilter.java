@@ -0,0 +1,94 @@
+package com.volunteer.management.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps the number of requests in flight at roughly what the connection pool can serve.
+ *
+ * With virtual threads Tomcat no longer bounds concurrency (there is no 200-thread pool),
+ * so a spike would otherwise park thousands of requests inside HikariCP's getConnection,
+ * each holding memory and timing out after connectionTimeout with a 500. Here they wait
+ * (cheaply, on a parked virtual thread) for a permit instead, in arrival order, and get a
+ * 503 with Retry-After once maxWait has passed.
+ *
+ * Actuator endpoints bypass the limiter so health checks keep answering under load.
+ */
+public class ConnectionPoolLimiterFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+    private final long retryAfterSeconds;
+    private final ObjectMapper objectMapper;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public ConnectionPoolLimiterFilter(int permits, Duration maxWait, long retryAfterSeconds,
+                                       ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(permits, true);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.objectMapper = objectMapper;
+        this.waitTimer = meterRegistry.timer("vms.limiter.wait");
+        this.rejected = meterRegistry.counter("vms.limiter.rejected");
+        // Gauges hold their state weakly; derive from the semaphore the filter keeps, never a boxed int
+        meterRegistry.gauge("vms.limiter.permits", this.permits, p -> permits);
+        meterRegistry.gauge("vms.limiter.active", this.permits, p -> permits - p.availablePermits());
+        meterRegistry.gauge("vms.limiter.waiting", waiting);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        long start = System.nanoTime();
+        waiting.incrementAndGet();
+        try {
+            acquired = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        } finally {
+            waiting.decrementAndGet();
+        }
+        waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (!acquired) {
+            rejected.increment();
+            reject(request, response);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        FilterErrorResponse.write(objectMapper, request, response, HttpStatus.SERVICE_UNAVAILABLE,
+                "Server is at capacity, please retry shortly.");
+    }
+}
@@ -1,8 +1,14 @@
 package com.volunteer.management.config;
 
 import com.volunteer.management.entity.Role;
+import com.volunteer.management.repository.EventRepository;
 import com.volunteer.management.repository.RoleRepository;
+import com.volunteer.management.service.VolunteerAvailabilityService;
+import com.volunteer.management.service.VolunteerSearchService;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
@@ -10,7 +16,27 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class DataInitializer implements CommandLineRunner {
 
+    private static final Logger log = LoggerFactory.getLogger(DataInitializer.class);
+
     private final RoleRepository roleRepository;
+    private final EventRepository eventRepository;
+    private final VolunteerSearchService volunteerSearchService;
+    private final VolunteerAvailabilityService volunteerAvailabilityService;
+
+    // Brings events.registered_count in line with event_volunteers, e.g. after upgrading a
+    // database that predates the counter. One UPDATE that only touches drifted rows.
+    @Value("${app.events.reconcile-registered-count:true}")
+    private boolean reconcileRegisteredCount;
+
+    // Fills volunteer_skills for volunteers saved before the skill index existed (or written
+    // with plain SQL). Only volunteers without any index rows are read, in batches.
+    @Value("${app.volunteers.reindex-skills:true}")
+    private boolean reindexSkills;
+
+    // Parses the free-text availability of volunteers saved before volunteer_availability
+    // existed. Text the parser doesn't understand stays without slots and is re-read each start.
+    @Value("${app.volunteers.reindex-availability:true}")
+    private boolean reindexAvailability;
 
     @Override
     public void run(String... args) throws Exception {
@@ -23,13 +49,39 @@ public class DataInitializer implements CommandLineRunner {
         }
         if (roleRepository.findByName("ROLE_ORGANIZER").isEmpty()) {
             roleRepository.save(new Role("ROLE_ORGANIZER"));
-            System.out.println(">>> Created ROLE_ORGANIZER");
+            log.info("Created ROLE_ORGANIZER");
         }
 // if (roleRepository.findByName("ROLE_ORGANIZER").isEmpty()) {
 //             roleRepository.save(new Role("ROLE_ORGANIZER"));
 //             System.out.println(">>> Created ROLE_ORGANIZER");
 //         }        
 
+        if (reconcileRegisteredCount) {
+            eventRepository.reconcileRegisteredCounts();
+        }
+
+        if (reindexSkills) {
+            long batches = 0;
+            for (Long last = volunteerSearchService.reindexBatch(0L); last != null;
+                 last = volunteerSearchService.reindexBatch(last)) {
+                batches++;
+            }
+            if (batches > 0) {
+                log.info("Indexed skills of volunteers in {} batch(es)", batches);
+            }
+        }
+
+        if (reindexAvailability) {
+            long batches = 0;
+            for (Long last = volunteerAvailabilityService.reindexBatch(0L); last != null;
+                 last = volunteerAvailabilityService.reindexBatch(last)) {
+                batches++;
+            }
+            if (batches > 0) {
+                log.info("Parsed availability of volunteers in {} batch(es)", batches);
+            }
+        }
+
         // Add other initial data if needed
     }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.volunteer.management.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Error responses written by servlet filters, which run before any controller advice applies.
+ * The body has the same fields as GlobalExceptionHandler.buildErrorResponse, so clients see one
+ * error shape whichever layer rejected the request.
+ */
+final class FilterErrorResponse {
+
+    private FilterErrorResponse() {
+    }
+
+    static void write(ObjectMapper objectMapper, HttpServletRequest request, HttpServletResponse response,
+                      HttpStatus status, String error) throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", status.value());
+        body.put("error", error);
+        body.put("path", request.getRequestURI());
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
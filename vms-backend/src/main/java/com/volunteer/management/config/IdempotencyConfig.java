@@ -0,0 +1,37 @@
+package com.volunteer.management.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Registers IdempotencyFilter (Idempotency-Key on authenticated POSTs). Turn off with
+ * app.idempotency.enabled=false.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.idempotency.enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(
+            ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${app.idempotency.ttl:1h}") Duration ttl,
+            @Value("${app.idempotency.max-memory:16MB}") DataSize maxMemory,
+            @Value("${app.idempotency.max-wait:10s}") Duration maxWait,
+            @Value("${app.idempotency.max-body:1MB}") DataSize maxBody) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(
+                new IdempotencyFilter(ttl, maxMemory.toBytes(), maxWait, maxBody.toBytes(), objectMapper, meterRegistry));
+        // Right after Spring Security: only a caller with a valid, unrevoked token may get a stored
+        // response back. Waiting duplicates hold a concurrency limiter permit, but no connection.
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,333 @@
+package com.volunteer.management.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.volunteer.management.security.services.UserDetailsImpl;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
+/**
+ * Makes authenticated POSTs safe to retry: a request carrying an Idempotency-Key header is
+ * executed once per (user, path, key), and repeats get the original response back.
+ *
+ *  - Completed responses are kept for ttl in a Caffeine store bounded by total size. Only
+ *    deterministic outcomes are kept (2xx and most 4xx); after a 5xx the next retry runs again.
+ *  - Concurrent duplicates are coalesced: the first request runs, the others wait (up to
+ *    maxWait) for its response instead of each hitting the database. A waiter that times out
+ *    gets 409 with Retry-After.
+ *  - Reusing a key with a different body is a client bug and gets 422.
+ *  - Bodies are read up front to fingerprint them, so they are capped at maxBodyBytes (413).
+ *  - Replays carry Idempotent-Replayed: true.
+ *
+ * Runs after Spring Security and keys on the authenticated user id, so a response is only
+ * replayed to a caller whose token is valid and not revoked, and a user's new token still
+ * finds the responses stored under their old one. Anonymous requests are never deduplicated.
+ * The store is per instance; behind a load balancer, retries need to reach the same node
+ * (or keep using the plain conflict handling of each endpoint).
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    // Printable ASCII, as in the IETF Idempotency-Key draft; UUIDs are the usual choice
+    private static final Pattern VALID_KEY = Pattern.compile("[\\x21-\\x7E]{1,255}");
+    // Bookkeeping per stored response on top of its body
+    private static final int ENTRY_OVERHEAD_BYTES = 512;
+    // Outcomes that depend on timing or credentials rather than on the request itself
+    private static final Set<Integer> NOT_STORED = Set.of(401, 403, 408, 429);
+
+    record StoredResponse(byte[] fingerprint, int status, String contentType, Map<String, List<String>> headers,
+                          byte[] body) {
+    }
+
+    private final Cache<String, StoredResponse> completed;
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private final long maxWaitNanos;
+    private final long maxBodyBytes;
+    private final ObjectMapper objectMapper;
+    private final Counter replayed;
+    private final Counter coalesced;
+
+    public IdempotencyFilter(Duration ttl, long maxBytes, Duration maxWait, long maxBodyBytes,
+                             ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.completed = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumWeight(maxBytes)
+                .<String, StoredResponse>weigher((key, response) -> ENTRY_OVERHEAD_BYTES + response.body().length)
+                .build();
+        this.maxWaitNanos = maxWait.toNanos();
+        this.maxBodyBytes = maxBodyBytes;
+        this.objectMapper = objectMapper;
+        this.replayed = meterRegistry.counter("vms.idempotency.replayed");
+        this.coalesced = meterRegistry.counter("vms.idempotency.coalesced");
+        meterRegistry.gauge("vms.idempotency.in-flight", inFlight, Map::size);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+                || request.getHeader(HEADER) == null
+                || !request.getRequestURI().startsWith("/api/")
+                || request.getRequestURI().startsWith("/api/auth/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(HEADER);
+        if (!VALID_KEY.matcher(idempotencyKey).matches()) {
+            reject(request, response, HttpStatus.BAD_REQUEST, HEADER + " must be 1 to 255 printable ASCII characters.");
+            return;
+        }
+        Long userId = currentUserId();
+        if (userId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        byte[] body = readBody(request);
+        if (body == null) {
+            reject(request, response, HttpStatus.PAYLOAD_TOO_LARGE,
+                    "Requests with an " + HEADER + " are limited to " + maxBodyBytes + " bytes.");
+            return;
+        }
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request, body);
+        String key = storeKey(userId, request, idempotencyKey);
+        byte[] fingerprint = sha256(cachedRequest.body);
+        long deadline = System.nanoTime() + maxWaitNanos;
+
+        while (true) {
+            StoredResponse stored = completed.getIfPresent(key);
+            if (stored != null) {
+                replay(stored, fingerprint, request, response);
+                return;
+            }
+            CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+            CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(key, mine);
+            if (running == null) {
+                execute(key, fingerprint, mine, cachedRequest, response, filterChain);
+                return;
+            }
+            coalesced.increment();
+            StoredResponse result;
+            try {
+                result = running.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                reject(request, response, HttpStatus.CONFLICT, "A request with this " + HEADER + " is still being processed.");
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServletException(e);
+            } catch (ExecutionException e) {
+                result = null; // failed without a response; try again, possibly as the one executing
+            }
+            if (result != null) {
+                replay(result, fingerprint, request, response);
+                return;
+            }
+        }
+    }
+
+    // Runs the request as the only one for this key and publishes its response to the waiters
+    private void execute(String key, byte[] fingerprint, CompletableFuture<StoredResponse> mine,
+                         CachedBodyRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ErrorTrackingResponse capture = new ErrorTrackingResponse(response);
+        StoredResponse result = null;
+        try {
+            filterChain.doFilter(request, capture);
+            // A sendError body is rendered later by the error page, outside this wrapper
+            if (!capture.errorSent && !request.isAsyncStarted()) {
+                result = snapshot(fingerprint, capture);
+                if (result.status() < 500 && !NOT_STORED.contains(result.status())) {
+                    completed.put(key, result);
+                }
+            }
+        } finally {
+            mine.complete(result);
+            inFlight.remove(key, mine);
+        }
+        capture.copyBodyToResponse();
+    }
+
+    private void replay(StoredResponse stored, byte[] fingerprint, HttpServletRequest request,
+                        HttpServletResponse response) throws IOException {
+        if (!MessageDigest.isEqual(stored.fingerprint(), fingerprint)) {
+            reject(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    HEADER + " was already used for a request with a different body.");
+            return;
+        }
+        replayed.increment();
+        response.setStatus(stored.status());
+        stored.headers().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private static StoredResponse snapshot(byte[] fingerprint, ContentCachingResponseWrapper response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            if (!HttpHeaders.SET_COOKIE.equalsIgnoreCase(name) && !HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)
+                    && !HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                headers.put(name, new ArrayList<>(response.getHeaders(name)));
+            }
+        }
+        return new StoredResponse(fingerprint, response.getStatus(), response.getContentType(), headers,
+                response.getContentAsByteArray());
+    }
+
+    // Set by JwtAuthenticationFilter for a valid, unrevoked token; null for anonymous requests
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof UserDetailsImpl user
+                ? user.getId() : null;
+    }
+
+    // The body, or null if it is larger than maxBodyBytes (declared or actual)
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            return null;
+        }
+        byte[] body = request.getInputStream().readNBytes((int) Math.min(maxBodyBytes + 1, Integer.MAX_VALUE));
+        return body.length > maxBodyBytes ? null : body;
+    }
+
+    // The client's key is hashed along with the rest of the scope, so stored keys stay fixed-size
+    private static String storeKey(Long userId, HttpServletRequest request, String idempotencyKey) {
+        String scope = userId + "\n" + request.getRequestURI()
+                + '\n' + request.getQueryString() + '\n' + idempotencyKey;
+        return HexFormat.of().formatHex(sha256(scope.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static byte[] sha256(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String error)
+            throws IOException {
+        FilterErrorResponse.write(objectMapper, request, response, status, error);
+    }
+
+    // Request whose body has been read up front (for the fingerprint) and can be read again downstream
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // Everything is already in memory, so the listener can run to completion right away
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+
+    private static final class ErrorTrackingResponse extends ContentCachingResponseWrapper {
+
+        private boolean errorSent;
+
+        ErrorTrackingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            errorSent = true;
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            errorSent = true;
+            super.sendError(sc, msg);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.volunteer.management.config;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -11,16 +13,22 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
+import com.volunteer.management.security.services.TokenRevocationService;
+import com.volunteer.management.security.services.UserDetailsImpl;
 import com.volunteer.management.security.services.UserDetailsServiceImpl;
 
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsServiceImpl userDetailsService; // Use Spring's interface
+    private final TokenRevocationService tokenRevocationService;
+    // false = always look the user up (through the UserDetails cache) instead of trusting token claims
+    private final boolean claimsAuthEnabled;
 
 
 
@@ -30,9 +38,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 
     // Constructor Injection
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, UserDetailsServiceImpl userDetailsService) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, UserDetailsServiceImpl userDetailsService,
+                                   TokenRevocationService tokenRevocationService,
+                                   @Value("${app.jwt.claims-auth.enabled:true}") boolean claimsAuthEnabled) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.userDetailsService = userDetailsService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.claimsAuthEnabled = claimsAuthEnabled;
     }
 
     @Override
@@ -43,13 +55,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 1. Get JWT token from http request (Authorization header)
         String token = getTokenFromRequest(request);
 
-        // 2. Validate token using JwtTokenProvider
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
+        // 2. Validate token and read its claims in one pass
+        Optional<Claims> claims = StringUtils.hasText(token) ? jwtTokenProvider.parseClaims(token) : Optional.empty();
+        if (claims.isPresent() && !isRevoked(claims.get())) {
             // 3. Get username from token
-            String username = jwtTokenProvider.getUsername(token);
+            String username = claims.get().getSubject();
 
-            // 4. Load the user associated with the token (from database)
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username); // Throws UsernameNotFoundException if not found
+            // 4. Build the user from the token's claims; only tokens issued before the
+            //    claims existed (or claims-auth turned off) still need a lookup
+            Optional<UserDetailsImpl> fromClaims = claimsAuthEnabled ? jwtTokenProvider.toUserDetails(claims.get()) : Optional.empty();
+            UserDetails userDetails = fromClaims
+                    .map(UserDetails.class::cast)
+                    .orElseGet(() -> userDetailsService.loadUserByUsername(username)); // Throws UsernameNotFoundException if not found
 
             // 5. Create Authentication object
             UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
@@ -70,6 +87,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
 
+    private boolean isRevoked(Claims claims) {
+        return tokenRevocationService.isRevoked(claims.getId(),
+                claims.get(JwtTokenProvider.CLAIM_USER_ID, Long.class), claims.getIssuedAt());
+    }
+
     private String getTokenFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
 
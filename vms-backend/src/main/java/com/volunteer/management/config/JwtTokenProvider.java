@@ -1,6 +1,6 @@
 package com.volunteer.management.config;
 
-import com.volunteer.management.exception.ApiException; // Create this simple exception class
+import com.volunteer.management.security.services.UserDetailsImpl;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -8,23 +8,43 @@ import io.jsonwebtoken.security.SignatureException; // Import specifically
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Component
 public class JwtTokenProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
 
-    @Value("${app.jwt.secret}")
-    private String jwtSecret;
+    private final long jwtExpirationDate;
 
-    @Value("${app.jwt.expiration-ms}")
-    private long jwtExpirationDate;
+    // Built once: decoding the secret and building the HMAC key/parser on every call
+    // showed up on every authenticated request. JwtParser is immutable and thread-safe.
+    private final Key key;
+    private final JwtParser parser;
+
+    public JwtTokenProvider(@Value("${app.jwt.secret}") String jwtSecret,
+                            @Value("${app.jwt.expiration-ms}") long jwtExpirationDate) {
+        this.jwtExpirationDate = jwtExpirationDate;
+        this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+    }
+
+    // Claims that let JwtAuthenticationFilter rebuild the principal without a database lookup
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_EMAIL = "email";
+    public static final String CLAIM_ROLES = "roles";
 
     // Generate JWT token
     public String generateToken(Authentication authentication) {
@@ -32,57 +52,70 @@ public class JwtTokenProvider {
         Date currentDate = new Date();
         Date expireDate = new Date(currentDate.getTime() + jwtExpirationDate);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .setId(UUID.randomUUID().toString()) // lets a single token be revoked
                 .setSubject(username)
                 .setIssuedAt(currentDate)
-                .setExpiration(expireDate)
-                .signWith(key()) // Use Key for signing
+                .setExpiration(expireDate);
+        if (authentication.getPrincipal() instanceof UserDetailsImpl userDetails) {
+            builder.claim(CLAIM_USER_ID, userDetails.getId())
+                    .claim(CLAIM_EMAIL, userDetails.getEmail())
+                    .claim(CLAIM_ROLES, userDetails.getAuthorities().stream()
+                            .map(GrantedAuthority::getAuthority)
+                            .collect(Collectors.toList()));
+        }
+        return builder
+                .signWith(key) // Use Key for signing
                 .compact();
     }
 
-    // Get username from Jwt token
-    public String getUsername(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getSubject();
+    /**
+     * Rebuilds the authenticated principal from verified claims.
+     * Empty for tokens issued before the claims were added; callers fall back to loading the user.
+     */
+    public Optional<UserDetailsImpl> toUserDetails(Claims claims) {
+        Long userId = claims.get(CLAIM_USER_ID, Long.class);
+        List<?> roles = claims.get(CLAIM_ROLES, List.class);
+        if (userId == null || roles == null) {
+            return Optional.empty();
+        }
+        List<GrantedAuthority> authorities = roles.stream()
+                .map(role -> new SimpleGrantedAuthority(String.valueOf(role)))
+                .collect(Collectors.toList());
+        return Optional.of(new UserDetailsImpl(userId, claims.getSubject(), claims.get(CLAIM_EMAIL, String.class),
+                null, authorities)); // no password: the token already proved identity
     }
 
-    // Validate Jwt token
-    public boolean validateToken(String token) {
+    /**
+     * Verifies the signature and expiry once and returns the claims.
+     * Empty if the token is invalid for any reason (the reason is logged).
+     */
+    public Optional<Claims> parseClaims(String token) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(key())
-                .build()
-                .parseClaimsJws(token);
-            return true;
+            return Optional.of(parser.parseClaimsJws(token).getBody());
         } catch (MalformedJwtException ex) {
             logger.error("Invalid JWT token: {}", ex.getMessage());
-            // throw new ApiException(HttpStatus.BAD_REQUEST, "Invalid JWT token"); // Optional: Throw specific exception
         } catch (ExpiredJwtException ex) {
             logger.error("Expired JWT token: {}", ex.getMessage());
-            // throw new ApiException(HttpStatus.UNAUTHORIZED, "Expired JWT token");
         } catch (UnsupportedJwtException ex) {
              logger.error("Unsupported JWT token: {}", ex.getMessage());
-            // throw new ApiException(HttpStatus.BAD_REQUEST, "Unsupported JWT token");
         } catch (IllegalArgumentException ex) {
              logger.error("JWT claims string is empty: {}", ex.getMessage());
-            // throw new ApiException(HttpStatus.BAD_REQUEST, "JWT claims string is empty.");
         } catch (SignatureException ex) {
              logger.error("JWT signature does not match locally computed signature: {}", ex.getMessage());
-             // throw new ApiException(HttpStatus.BAD_REQUEST, "Invalid JWT signature.");
+        } catch (JwtException ex) {
+             logger.error("Unreadable JWT token: {}", ex.getMessage()); // e.g. undecodable Base64
         }
-        return false; // Return false if any exception occurs
+        return Optional.empty();
     }
 
+    // Get username from Jwt token
+    public String getUsername(String token) {
+        return parser.parseClaimsJws(token).getBody().getSubject();
+    }
 
-    // Generate Key object from secret string
-    private Key key() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+    // Validate Jwt token. Prefer parseClaims when the claims are needed too.
+    public boolean validateToken(String token) {
+        return parseClaims(token).isPresent();
     }
 }
-
-// Create a simple ApiException class if you want to throw specific exceptions
-// exception/ApiException.java
@@ -0,0 +1,72 @@
+package com.volunteer.management.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+/**
+ * Per-request SQL instrumentation (see RequestSqlMetricsFilter). Replaces show-sql as the
+ * way to see what a request does to the database; turn off with
+ * app.instrumentation.request-sql.enabled=false.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.instrumentation.request-sql.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestInstrumentationConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer requestSqlStatsHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlStatsSessionEventListener.class.getName());
+            properties.put(JpaSettings.INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(new EntityLoadCountingIntegrator()));
+        };
+    }
+
+    // Ahead of Spring Security, so the JWT filter's own lookups are counted too
+    @Bean
+    public FilterRegistrationBean<RequestSqlMetricsFilter> requestSqlMetricsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${app.instrumentation.n-plus-one-threshold:25}") int nPlusOneThreshold) {
+        FilterRegistrationBean<RequestSqlMetricsFilter> registration =
+                new FilterRegistrationBean<>(new RequestSqlMetricsFilter(meterRegistry, nPlusOneThreshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+
+    static class EntityLoadCountingIntegrator implements Integrator {
+
+        @Override
+        public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                              SessionFactoryImplementor sessionFactory) {
+            PostLoadEventListener countLoads = event -> {
+                RequestSqlStats stats = RequestSqlStats.current();
+                if (stats != null) {
+                    stats.entityLoaded();
+                }
+            };
+            sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class)
+                    .appendListeners(EventType.POST_LOAD, countLoads);
+        }
+
+        @Override
+        public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        }
+    }
+}
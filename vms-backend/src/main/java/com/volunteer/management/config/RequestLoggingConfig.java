@@ -0,0 +1,26 @@
+package com.volunteer.management.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+// Sampled request logging; enabled by the prod profile (app.logging.requests.enabled=true)
+@Configuration
+@ConditionalOnProperty(name = "app.logging.requests.enabled", havingValue = "true")
+public class RequestLoggingConfig {
+
+    @Bean
+    public FilterRegistrationBean<RequestSampleLoggingFilter> requestSampleLoggingFilter(
+            @Value("${app.logging.requests.sample-rate:0.01}") double sampleRate,
+            @Value("${app.logging.requests.slow-threshold:1s}") Duration slowThreshold) {
+        FilterRegistrationBean<RequestSampleLoggingFilter> registration =
+                new FilterRegistrationBean<>(new RequestSampleLoggingFilter(sampleRate, slowThreshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 3);
+        return registration;
+    }
+}
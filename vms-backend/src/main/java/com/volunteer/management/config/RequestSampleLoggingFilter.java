@@ -0,0 +1,52 @@
+package com.volunteer.management.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One access-log line for a random sample of requests, plus every request slower than
+ * the threshold. Lines go to the "vms.requests" logger so they can be routed or muted
+ * separately; nothing is formatted for requests that aren't logged.
+ */
+public class RequestSampleLoggingFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger("vms.requests");
+
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    public RequestSampleLoggingFilter(double sampleRate, Duration slowThreshold) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            if (log.isInfoEnabled()) {
+                if (elapsed >= slowThresholdNanos) {
+                    log.info("SLOW {} {} -> {} in {} ms", request.getMethod(), request.getRequestURI(),
+                            response.getStatus(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+                } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                    log.info("{} {} -> {} in {} ms", request.getMethod(), request.getRequestURI(),
+                            response.getStatus(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+                }
+            }
+        }
+    }
+}
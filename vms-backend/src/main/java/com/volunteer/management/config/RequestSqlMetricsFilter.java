@@ -0,0 +1,86 @@
+package com.volunteer.management.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records, per request and tagged by the handler method (e.g. EventController.getAllEvents):
+ *   vms.request.latency          - wall time of the whole request, filters included
+ *   vms.request.sql.statements   - JDBC statements executed through Hibernate
+ *   vms.request.sql.time         - time spent executing them
+ *   vms.request.connection.wait  - time spent acquiring connections from the pool
+ *   vms.request.entities.loaded  - entities Hibernate hydrated (including L2 cache hits)
+ * Requests whose statement count reaches the threshold are logged as N+1 suspects.
+ *
+ * Async requests (login/register) finish on another thread and are skipped here;
+ * they show up in http.server.requests and auth.password.work instead.
+ */
+public class RequestSqlMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestSqlMetricsFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int nPlusOneThreshold;
+
+    public RequestSqlMetricsFilter(MeterRegistry meterRegistry, int nPlusOneThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestSqlStats stats = RequestSqlStats.begin();
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestSqlStats.end();
+            if (!request.isAsyncStarted()) {
+                record(request, stats, System.nanoTime() - start);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestSqlStats stats, long latencyNanos) {
+        String handler = handlerName(request);
+        Timer.builder("vms.request.latency").tag("handler", handler)
+                .register(meterRegistry).record(latencyNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("vms.request.sql.statements").tag("handler", handler)
+                .register(meterRegistry).record(stats.getStatements());
+        Timer.builder("vms.request.sql.time").tag("handler", handler)
+                .register(meterRegistry).record(stats.getStatementNanos(), TimeUnit.NANOSECONDS);
+        Timer.builder("vms.request.connection.wait").tag("handler", handler)
+                .register(meterRegistry).record(stats.getConnectionWaitNanos(), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("vms.request.entities.loaded").tag("handler", handler)
+                .register(meterRegistry).record(stats.getEntitiesLoaded());
+
+        if (stats.getStatements() >= nPlusOneThreshold) {
+            log.warn("Possible N+1 in {} ({} {}): {} statements, {} entities loaded, {} ms in SQL",
+                    handler, request.getMethod(), request.getRequestURI(), stats.getStatements(),
+                    stats.getEntitiesLoaded(), TimeUnit.NANOSECONDS.toMillis(stats.getStatementNanos()));
+        }
+    }
+
+    // Bounded cardinality: the handler method, never the raw URI
+    private static String handlerName(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        }
+        return handler == null ? "unmapped" : handler.getClass().getSimpleName();
+    }
+}
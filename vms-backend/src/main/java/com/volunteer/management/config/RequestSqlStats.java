@@ -0,0 +1,52 @@
+package com.volunteer.management.config;
+
+/**
+ * Per-request JDBC/Hibernate counters, bound to the request thread by RequestSqlMetricsFilter
+ * and fed by SqlStatsSessionEventListener and the post-load listener. Work handed off to
+ * other threads (e.g. the password work pool) is not attributed to the request.
+ */
+public final class RequestSqlStats {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private long statements;
+    private long statementNanos;
+    private long connectionWaitNanos;
+    private long entitiesLoaded;
+
+    private RequestSqlStats() {
+    }
+
+    static RequestSqlStats begin() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    // null outside an instrumented request (startup, schedulers, other threads)
+    static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    void statementExecuted(long nanos) {
+        statements++;
+        statementNanos += nanos;
+    }
+
+    void connectionAcquired(long waitNanos) {
+        connectionWaitNanos += waitNanos;
+    }
+
+    void entityLoaded() {
+        entitiesLoaded++;
+    }
+
+    public long getStatements() { return statements; }
+    public long getStatementNanos() { return statementNanos; }
+    public long getConnectionWaitNanos() { return connectionWaitNanos; }
+    public long getEntitiesLoaded() { return entitiesLoaded; }
+}
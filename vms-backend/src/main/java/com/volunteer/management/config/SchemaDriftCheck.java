@@ -0,0 +1,136 @@
+package com.volunteer.management.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Fails startup when the live schema has drifted from what the queries are tuned for.
+ *
+ * Three layers guard the schema: Flyway refuses to start when an applied migration was
+ * edited afterwards (checksum mismatch), Hibernate's ddl-auto=validate checks tables and
+ * columns against the entities, and this check covers what neither of them looks at: the
+ * indexes and primary key column order from the migrations. An index dropped or rebuilt by
+ * hand would otherwise only show up as slow queries.
+ *
+ * Runs before DataInitializer, so nothing touches a drifted database. Disable with
+ * app.schema.drift-check.enabled=false.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.schema.drift-check.enabled", havingValue = "true", matchIfMissing = true)
+public class SchemaDriftCheck implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaDriftCheck.class);
+
+    // vendor is the JDBC product name the index exists on, or null for every database;
+    // columns null only checks that the index exists (expression indexes)
+    record RequiredIndex(String table, String name, List<String> columns, String vendor) {
+    }
+
+    static final List<RequiredIndex> REQUIRED_INDEXES = List.of(
+            new RequiredIndex("events", "idx_events_start_id", List.of("start_date_time", "id"), null),
+            new RequiredIndex("events", "idx_events_organizer_start", List.of("organizer_user_id", "start_date_time", "id"), null),
+            new RequiredIndex("events", "idx_events_end_start", List.of("end_date_time", "start_date_time"), null),
+            new RequiredIndex("events", "idx_events_location", List.of("location"), null),
+            new RequiredIndex("event_series", "idx_event_series_organizer", List.of("organizer_user_id"), null),
+            new RequiredIndex("events", "idx_events_location_prefix", null, "PostgreSQL"),
+            new RequiredIndex("event_volunteers", "idx_event_volunteers_volunteer", List.of("volunteer_id", "event_id"), null),
+            new RequiredIndex("event_waitlist", "idx_waitlist_event_order", List.of("event_id", "id"), null),
+            new RequiredIndex("event_waitlist", "idx_waitlist_volunteer", List.of("volunteer_id"), null),
+            new RequiredIndex("volunteer_skills", "idx_volunteer_skills_skill", List.of("skill", "volunteer_id"), null));
+
+    static final Map<String, List<String>> PRIMARY_KEYS = Map.of(
+            "event_volunteers", List.of("event_id", "volunteer_id"),
+            "user_roles", List.of("user_id", "role_id"),
+            "volunteer_skills", List.of("volunteer_id", "skill"),
+            "volunteer_availability", List.of("volunteer_id", "day_of_week", "start_time", "end_time"));
+
+    private final DataSource dataSource;
+
+    public SchemaDriftCheck(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        List<String> problems = findDrift();
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("Database schema has drifted from the migrations:\n - "
+                    + String.join("\n - ", problems));
+        }
+        log.debug("Schema drift check passed ({} indexes, {} primary keys)", REQUIRED_INDEXES.size(), PRIMARY_KEYS.size());
+    }
+
+    List<String> findDrift() throws SQLException {
+        List<String> problems = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String vendor = metaData.getDatabaseProductName();
+            for (RequiredIndex required : REQUIRED_INDEXES) {
+                if (required.vendor() != null && !required.vendor().equalsIgnoreCase(vendor)) {
+                    continue;
+                }
+                List<String> actual = indexColumns(metaData, connection.getSchema(), required.table()).get(required.name());
+                if (actual == null) {
+                    problems.add("missing index " + required.name() + " on " + required.table());
+                } else if (required.columns() != null && !required.columns().equals(actual)) {
+                    problems.add("index " + required.name() + " is on " + actual + ", expected " + required.columns());
+                }
+            }
+            for (Map.Entry<String, List<String>> required : PRIMARY_KEYS.entrySet()) {
+                List<String> actual = primaryKeyColumns(metaData, connection.getSchema(), required.getKey());
+                if (!required.getValue().equals(actual)) {
+                    problems.add("primary key of " + required.getKey() + " is " + actual + ", expected " + required.getValue());
+                }
+            }
+        }
+        return problems;
+    }
+
+    // Index name -> columns in key order, names lower-cased
+    private static Map<String, List<String>> indexColumns(DatabaseMetaData metaData, String schema, String table)
+            throws SQLException {
+        Map<String, TreeMap<Short, String>> byIndex = new TreeMap<>();
+        try (ResultSet rows = metaData.getIndexInfo(null, schema, table, false, true)) {
+            while (rows.next()) {
+                String index = rows.getString("INDEX_NAME");
+                String column = rows.getString("COLUMN_NAME");
+                if (index != null) {
+                    byIndex.computeIfAbsent(index.toLowerCase(Locale.ROOT), name -> new TreeMap<>())
+                            .put(rows.getShort("ORDINAL_POSITION"), column == null ? "" : column.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        Map<String, List<String>> columns = new TreeMap<>();
+        byIndex.forEach((index, ordered) -> columns.put(index, new ArrayList<>(ordered.values())));
+        return columns;
+    }
+
+    private static List<String> primaryKeyColumns(DatabaseMetaData metaData, String schema, String table)
+            throws SQLException {
+        TreeMap<Short, String> ordered = new TreeMap<>();
+        try (ResultSet rows = metaData.getPrimaryKeys(null, schema, table)) {
+            while (rows.next()) {
+                ordered.put(rows.getShort("KEY_SEQ"), rows.getString("COLUMN_NAME").toLowerCase(Locale.ROOT));
+            }
+        }
+        return new ArrayList<>(ordered.values());
+    }
+}
@@ -1,6 +1,7 @@
 package com.volunteer.management.config;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 // ... other imports ...
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -53,9 +54,11 @@ public class SecurityConfig {
     // };
 
     // ... (PasswordEncoder, AuthenticationManager beans etc.) ...
+    // Raising the strength re-hashes existing passwords on their next login
+    // (see UserDetailsServiceImpl.updatePassword)
     @Bean
-    public static PasswordEncoder passwordEncoder() { // Example bean
-        return new BCryptPasswordEncoder();
+    public static PasswordEncoder passwordEncoder(@Value("${app.security.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
      @Bean
@@ -73,9 +76,9 @@ public class SecurityConfig {
         // Allow common HTTP methods
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS", "HEAD"));
         // Allow common headers, especially Authorization for JWT and Content-Type
-        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Cache-Control", "Content-Type", "Accept", "Origin"));
+        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Cache-Control", "Content-Type", "Accept", "Origin", IdempotencyFilter.HEADER));
         // If you might need to expose headers to the frontend (e.g., custom headers), list them here
-        configuration.setExposedHeaders(Arrays.asList("Authorization")); // Example if needed
+        configuration.setExposedHeaders(Arrays.asList("Authorization", IdempotencyFilter.REPLAYED_HEADER)); // Example if needed
         // Allow credentials (cookies, authorization headers)
         configuration.setAllowCredentials(true); // Often needed if you send Authorization headers
 
@@ -104,8 +107,11 @@ public class SecurityConfig {
              .authorizeHttpRequests(auth -> auth
                  .requestMatchers("/api/auth/**").permitAll()
                  .requestMatchers(HttpMethod.GET, "/api/events/**").permitAll()
+                 .requestMatchers(HttpMethod.GET, "/api/series/**").permitAll()
                  .requestMatchers(HttpMethod.GET, "/api/volunteers/**").permitAll()
                  .requestMatchers("/api/users/me").authenticated()
+                 .requestMatchers("/actuator/health").permitAll()
+                 .requestMatchers("/actuator/**").hasRole("ADMIN")
                 //  .requestMatchers((SWAGGER_WHITELIST)).permitAll() 
                  .requestMatchers(
                  "/swagger-ui.html",
@@ -131,11 +137,15 @@ public class SecurityConfig {
               response.getWriter().write("{\"error\": \"Unauthorized\", \"message\": \"" + authException.getMessage() + "\"}");
           };
       }
-      public DaoAuthenticationProvider authenticationProvider() {
+      // The only provider, so AuthenticationConfiguration builds the AuthenticationManager from it.
+      // The UserDetailsPasswordService re-hashes passwords stored with a weaker BCrypt strength.
+      @Bean
+      public DaoAuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         // Set your custom UserDetailsService and PasswordEncoder
         authProvider.setUserDetailsService(userDetailsServiceImpl); // <-- Use the @Autowired field
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(userDetailsServiceImpl);
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
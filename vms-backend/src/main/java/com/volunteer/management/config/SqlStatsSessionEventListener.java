@@ -0,0 +1,55 @@
+package com.volunteer.management.config;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Attached to every Hibernate session (hibernate.session.events.auto); times statement
+ * execution and connection acquisition into the current RequestSqlStats, if any.
+ * One instance per session, so the start timestamps need no synchronization.
+ */
+public class SqlStatsSessionEventListener implements SessionEventListener {
+
+    private long connectionAcquisitionStart;
+    private long executeStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        connectionAcquisitionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null) {
+            stats.connectionAcquired(System.nanoTime() - connectionAcquisitionStart);
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null) {
+            stats.statementExecuted(System.nanoTime() - executeStart);
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    // A batch is one round trip, so it counts as one statement
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null) {
+            stats.statementExecuted(System.nanoTime() - batchStart);
+        }
+    }
+}
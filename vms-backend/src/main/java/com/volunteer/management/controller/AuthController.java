@@ -3,6 +3,7 @@ package com.volunteer.management.controller;
 import com.volunteer.management.dto.JwtAuthResponse;
 import com.volunteer.management.dto.LoginRequest;
 import com.volunteer.management.dto.RegisterRequest;
+import com.volunteer.management.security.services.PasswordWorkExecutor;
 import com.volunteer.management.service.AuthService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +11,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
@@ -18,18 +21,29 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final PasswordWorkExecutor passwordWorkExecutor;
 
     // POST /api/auth/login
+    // BCrypt runs on the password work pool; the servlet thread is released while it does
     @PostMapping("/login")
-    public ResponseEntity<JwtAuthResponse> login(@Valid @RequestBody LoginRequest loginRequest) {
-        JwtAuthResponse jwtAuthResponse = authService.login(loginRequest);
-        return ResponseEntity.ok(jwtAuthResponse);
+    public CompletableFuture<ResponseEntity<JwtAuthResponse>> login(@Valid @RequestBody LoginRequest loginRequest) {
+        return passwordWorkExecutor.submit("login", () -> authService.login(loginRequest))
+                .thenApply(ResponseEntity::ok);
+    }
+
+    // POST /api/auth/logout - revokes the bearer token sent with the request
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(value = "Authorization", required = false) String authorization) {
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            authService.logout(authorization.substring(7));
+        }
+        return ResponseEntity.noContent().build();
     }
 
     // POST /api/auth/register
     @PostMapping("/register")
-    public ResponseEntity<String> register(@Valid @RequestBody RegisterRequest registerRequest) {
-        String response = authService.register(registerRequest);
-        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    public CompletableFuture<ResponseEntity<String>> register(@Valid @RequestBody RegisterRequest registerRequest) {
+        return passwordWorkExecutor.submit("register", () -> authService.register(registerRequest))
+                .thenApply(response -> new ResponseEntity<>(response, HttpStatus.CREATED));
     }
 }
\ No newline at end of file
@@ -1,27 +1,48 @@
 package com.volunteer.management.controller;
 
 // --- Necessary Imports ---
+import com.volunteer.management.dto.CursorPageDto;
+import com.volunteer.management.dto.EventAssignmentRequest;
+import com.volunteer.management.dto.EventAssignmentResultDto;
+import com.volunteer.management.dto.EventBatchResultDto;
 import com.volunteer.management.dto.EventDto;
+import com.volunteer.management.dto.EventFilter;
 import com.volunteer.management.dto.EventSummaryDto; // <-- IMPORT the new DTO
+import com.volunteer.management.dto.VolunteerRecommendationDto;
+import com.volunteer.management.dto.VolunteerSummaryDto;
 import com.volunteer.management.entity.Event;      // <-- IMPORT Event entity
 import com.volunteer.management.entity.User;
 import com.volunteer.management.repository.EventRepository; // <-- IMPORT EventRepository
 import com.volunteer.management.repository.UserRepository;
 // import com.volunteer.management.service.AuthService; // Keep if used elsewhere
+import com.volunteer.management.service.EventAssignmentService;
+import com.volunteer.management.service.EventBatchService;
 import com.volunteer.management.service.EventService;
+import com.volunteer.management.service.ExportService;
+import com.volunteer.management.service.VolunteerAvailabilityService;
+import com.volunteer.management.service.VolunteerRecommendationService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor; // Use Lombok for constructor injection
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 // Remove explicit @Autowired if using RequiredArgsConstructor for all fields
 // import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors; // <-- IMPORT Collectors
 
@@ -30,21 +51,67 @@ import java.util.stream.Collectors; // <-- IMPORT Collectors
 @RequiredArgsConstructor // Injects all final fields via constructor
 public class EventController {
 
+    private static final Logger log = LoggerFactory.getLogger(EventController.class);
+
     private final EventService eventService;
+    private final EventBatchService eventBatchService;
+    private final EventAssignmentService eventAssignmentService;
     // private final AuthService authService; // Keep if needed
     private final UserRepository userRepository; // Use final for consistent injection
     private final EventRepository eventRepository; // <-- Inject EventRepository
+    private final ExportService exportService;
+    private final VolunteerAvailabilityService volunteerAvailabilityService;
+    private final VolunteerRecommendationService volunteerRecommendationService;
 
     // === Public Endpoints ===
 
+    // Both GETs are conditional: the validator is read first (one projection query) and a
+    // matching If-None-Match / If-Modified-Since returns 304 before the page is loaded or mapped.
+    // checkNotModified also sets ETag and Last-Modified on the full response. no-cache lets the
+    // browser keep the body but makes it revalidate every time (Spring Security would send no-store).
+
+    // view=summary returns EventOverviewDto rows (counts only, no volunteer roster)
     @GetMapping
-    public ResponseEntity<List<EventDto>> getAllEvents() {
-        return ResponseEntity.ok(eventService.getAllEvents());
+    public ResponseEntity<CursorPageDto<?>> getAllEvents(
+            @RequestParam(defaultValue = "full") String view,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + EventService.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String location,
+            @RequestParam(defaultValue = "false") boolean hasFreeSlots,
+            WebRequest webRequest) {
+        EventFilter filter = new EventFilter(from, to, location, hasFreeSlots);
+        EventService.Validator validator = eventService.getListingValidator(view, filter, cursor, size);
+        if (webRequest.checkNotModified(validator.eTag(), validator.lastModified())) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+        if ("summary".equalsIgnoreCase(view)) {
+            return response.body(eventService.getEventOverviews(filter, cursor, size));
+        }
+        return response.body(eventService.getEvents(filter, cursor, size));
+    }
+
+    // Every event (without rosters) as NDJSON (default) or CSV, streamed row by row; see ExportService
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportEvents(@RequestParam(defaultValue = "ndjson") String format, HttpServletResponse response)
+            throws IOException {
+        ExportService.Format exportFormat = ExportService.Format.parse(format);
+        response.setContentType(exportFormat.contentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"events." + exportFormat.fileExtension() + "\"");
+        exportService.exportEvents(exportFormat, response.getOutputStream());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<EventDto> getEventById(@PathVariable Long id) {
-        return ResponseEntity.ok(eventService.getEventById(id));
+    public ResponseEntity<EventDto> getEventById(@PathVariable Long id, WebRequest webRequest) {
+        EventService.Validator validator = eventService.getEventValidator(id);
+        if (webRequest.checkNotModified(validator.eTag(), validator.lastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(eventService.getEventById(id));
     }
 
     // === Create Event (Requires Organizer/Admin) ===
@@ -75,10 +142,26 @@ public class EventController {
         // 3. Call the service with the DTO and the fetched User entity
         EventDto createdEvent = eventService.createEvent(eventDto, currentUser); // Ensure service method accepts User
 
-        System.out.println("Event created successfully for user: " + username);
+        log.info("Event {} created by user {}", createdEvent.getId(), username);
         return new ResponseEntity<>(createdEvent, HttpStatus.CREATED);
     }
 
+    // === Create Many Events at Once (Requires Organizer/Admin) ===
+
+    // Up to EventBatchService.MAX_EVENTS events, all organized by the caller. Items are
+    // validated individually (no @Valid here): 201 when all were created, otherwise 207 with
+    // the errors of the rejected items next to the ids of the created ones.
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('ORGANIZER')")
+    public ResponseEntity<EventBatchResultDto> createEvents(@RequestBody List<EventDto> eventDtos, Authentication authentication) {
+        String username = authentication.getName();
+        User currentUser = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authenticated user '" + username + "' not found in database"));
+
+        EventBatchResultDto result = eventBatchService.createEvents(eventDtos, currentUser);
+        return ResponseEntity.status(result.rejected() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS).body(result);
+    }
+
     // === Update Event (Requires Admin or Organizer of the event) ===
 
     @PutMapping("/{id}")
@@ -115,6 +198,38 @@ public class EventController {
          return ResponseEntity.ok(updatedEvent);
     }
 
+    // === Bulk Assign/Unassign (Requires Admin or Organizer of the event) ===
+
+    // Many volunteers in one call; returns what changed rather than the whole event
+    @PostMapping("/{eventId}/assignments")
+    @PreAuthorize("hasRole('ADMIN') or @eventSecurityService.isOrganizerOfEvent(#eventId, authentication)")
+    public ResponseEntity<EventAssignmentResultDto> updateAssignments(@PathVariable Long eventId,
+                                                                      @RequestBody EventAssignmentRequest request) {
+        return ResponseEntity.ok(eventAssignmentService.applyAssignments(eventId, request));
+    }
+
+    // === Volunteers Free for an Event (Requires Admin or Organizer of the event) ===
+
+    // Volunteers whose weekly availability covers the event's time window, by volunteer id;
+    // pass nextCursor back as cursor for the next page.
+    @GetMapping("/{id}/available-volunteers")
+    @PreAuthorize("hasRole('ADMIN') or @eventSecurityService.isOrganizerOfEvent(#id, authentication)")
+    public ResponseEntity<CursorPageDto<VolunteerSummaryDto>> getAvailableVolunteers(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + EventService.DEFAULT_PAGE_SIZE) int size) {
+        return ResponseEntity.ok(volunteerAvailabilityService.findAvailableForEvent(id, cursor, size));
+    }
+
+    // Best matches for the event by skills, availability and experience, best first
+    @GetMapping("/{id}/recommended-volunteers")
+    @PreAuthorize("hasRole('ADMIN') or @eventSecurityService.isOrganizerOfEvent(#id, authentication)")
+    public ResponseEntity<List<VolunteerRecommendationDto>> getRecommendedVolunteers(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "" + VolunteerRecommendationService.DEFAULT_LIMIT) int limit) {
+        return ResponseEntity.ok(volunteerRecommendationService.recommend(id, limit));
+    }
+
     // === Get Events Organized by Current User (Requires Organizer role) ===
 
     @GetMapping("/my-organized")
@@ -0,0 +1,79 @@
+package com.volunteer.management.controller;
+
+import com.volunteer.management.dto.EventDto;
+import com.volunteer.management.dto.EventOccurrenceDto;
+import com.volunteer.management.dto.EventSeriesDto;
+import com.volunteer.management.dto.RegistrationResultDto;
+import com.volunteer.management.entity.User;
+import com.volunteer.management.repository.UserRepository;
+import com.volunteer.management.security.services.UserDetailsImpl;
+import com.volunteer.management.service.EventSeriesService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Recurring events. Occurrences are addressed by their scheduled start
+// (yyyy-MM-ddTHH:mm:ss), e.g. PUT /api/series/3/occurrences/2026-11-07T09:00:00
+@RestController
+@RequestMapping("/api/series")
+@RequiredArgsConstructor
+public class EventSeriesController {
+
+    private final EventSeriesService eventSeriesService;
+    private final UserRepository userRepository;
+
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN') or hasRole('ORGANIZER')")
+    public ResponseEntity<EventSeriesDto> createSeries(@Valid @RequestBody EventSeriesDto seriesDto, Authentication authentication) {
+        String username = authentication.getName();
+        User currentUser = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authenticated user '" + username + "' not found in database"));
+        return new ResponseEntity<>(eventSeriesService.createSeries(seriesDto, currentUser), HttpStatus.CREATED);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<EventSeriesDto> getSeries(@PathVariable Long id) {
+        return ResponseEntity.ok(eventSeriesService.getSeries(id));
+    }
+
+    // Occurrences scheduled in [from, to); defaults to the next 31 days, at most 366 days at once
+    @GetMapping("/{id}/occurrences")
+    public ResponseEntity<List<EventOccurrenceDto>> getOccurrences(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(eventSeriesService.getOccurrences(id, from, to));
+    }
+
+    // Edits a single occurrence (materializing it first); returns the event it now is
+    @PutMapping("/{id}/occurrences/{occurrenceStart}")
+    @PreAuthorize("hasRole('ADMIN') or @eventSecurityService.isOrganizerOfSeries(#id, authentication)")
+    public ResponseEntity<EventDto> updateOccurrence(
+            @PathVariable Long id,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime occurrenceStart,
+            @Valid @RequestBody EventDto eventDto) {
+        return ResponseEntity.ok(eventSeriesService.updateOccurrence(id, occurrenceStart, eventDto));
+    }
+
+    // Same contract as POST /api/registrations: 201 when registered, 202 when waitlisted
+    @PostMapping("/{id}/occurrences/{occurrenceStart}/registrations")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<RegistrationResultDto> registerForOccurrence(
+            @PathVariable Long id,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime occurrenceStart,
+            Authentication authentication) {
+        Long currentUserId = ((UserDetailsImpl) authentication.getPrincipal()).getId();
+        RegistrationResultDto result = eventSeriesService.registerForOccurrence(id, occurrenceStart, currentUserId);
+        HttpStatus status = result.status() == RegistrationResultDto.Status.REGISTERED ? HttpStatus.CREATED : HttpStatus.ACCEPTED;
+        return ResponseEntity.status(status).body(result);
+    }
+}
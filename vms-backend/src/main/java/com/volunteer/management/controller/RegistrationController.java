@@ -2,7 +2,7 @@
 package com.volunteer.management.controller;
 
 import com.volunteer.management.dto.RegistrationEvent;
-import com.volunteer.management.entity.Event; // Assuming you return the event
+import com.volunteer.management.dto.RegistrationResultDto;
 import com.volunteer.management.security.services.UserDetailsImpl; // Your UserDetails implementation
 import com.volunteer.management.service.RegistrationService;
 import jakarta.validation.Valid;
@@ -35,22 +35,20 @@ public class RegistrationController {
      */
     @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @PreAuthorize("isAuthenticated()") // Ensures user is logged in
-    public ResponseEntity<?> registerForEvent(@Valid @RequestBody RegistrationEvent registrationRequest) {
+    public ResponseEntity<RegistrationResultDto> registerForEvent(@Valid @RequestBody RegistrationEvent registrationRequest) {
 
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
         Long currentUserId = userDetails.getId(); // Get ID from authenticated principal
 
-        log.info("Received registration request for event ID {} from user ID {}", registrationRequest.getEventId(), currentUserId);
+        log.debug("Received registration request for event ID {} from user ID {}", registrationRequest.getEventId(), currentUserId);
 
         // The service handles exceptions which will be translated by ControllerAdvice or default mechanisms
-        Event updatedEvent = registrationService.registerCurrentUserForEvent(registrationRequest.getEventId(), currentUserId);
+        RegistrationResultDto result = registrationService.registerCurrentUserForEvent(registrationRequest.getEventId(), currentUserId);
 
-        // Return success - could return the updated event, a confirmation message, or just 201 Created
-        // Returning just status is often sufficient for simple actions
-        return ResponseEntity.status(HttpStatus.CREATED).body("Successfully registered for the event.");
-        // Or return event details:
-        // return ResponseEntity.status(HttpStatus.CREATED).body(updatedEvent);
+        // 201 Created for a confirmed slot, 202 Accepted when queued on the waitlist
+        HttpStatus status = result.status() == RegistrationResultDto.Status.REGISTERED ? HttpStatus.CREATED : HttpStatus.ACCEPTED;
+        return ResponseEntity.status(status).body(result);
     }
 
     /**
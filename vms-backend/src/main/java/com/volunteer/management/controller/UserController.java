@@ -17,6 +17,7 @@ import org.springframework.security.core.GrantedAuthority; // Import GrantedAuth
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Collection;
 import java.util.Comparator; // Import Comparator
 import java.util.Optional; // Import Optional
 
@@ -93,12 +94,7 @@ public class UserController {
         // String roleName = user.getRoles().stream().findFirst().map(Role::getName).orElse("N/A");
 
         // Option 2: Prioritize - Prefer ADMIN over VOLUNTEER, etc.
-        Optional<String> primaryRole = user.getRoles().stream()
-                                          .map(Role::getName) // Get role names (e.g., "ROLE_ADMIN", "ROLE_VOLUNTEER")
-                                          .sorted(rolePriorityComparator()) // Sort by priority
-                                          .findFirst(); // Get the highest priority one
-
-        dto.setRole(primaryRole.orElse("ROLE_USER")); // Provide a default if no roles found
+        dto.setRole(resolvePrimaryRole(user.getRoles()));
 
         // Option 3: Use roles directly from Authentication object (already processed by UserDetailsService)
         // String authRole = authentication.getAuthorities().stream()
@@ -112,8 +108,18 @@ public class UserController {
         return dto;
     }
 
+    // Highest-priority role name, or ROLE_USER if there are none.
+    // Package-private for RoleResolutionBenchmark.
+    static String resolvePrimaryRole(Collection<Role> roles) {
+        Optional<String> primaryRole = roles.stream()
+                                          .map(Role::getName) // Get role names (e.g., "ROLE_ADMIN", "ROLE_VOLUNTEER")
+                                          .sorted(rolePriorityComparator()) // Sort by priority
+                                          .findFirst(); // Get the highest priority one
+        return primaryRole.orElse("ROLE_USER"); // Provide a default if no roles found
+    }
+
     // Comparator for Role Priority (Example: Admin > Volunteer > User)
-    private Comparator<String> rolePriorityComparator() {
+    private static Comparator<String> rolePriorityComparator() {
         return Comparator.comparingInt(role -> {
             if (role.equalsIgnoreCase("ROLE_ADMIN")) return 0;
             if (role.equalsIgnoreCase("ROLE_VOLUNTEER")) return 1; // Adjust role names if different
@@ -1,16 +1,22 @@
 package com.volunteer.management.controller;
 
 // --- Necessary Imports ---
+import com.volunteer.management.dto.CursorPageDto;
 import com.volunteer.management.dto.EventSummaryDto;   // <-- IMPORT Summary DTO
 import com.volunteer.management.dto.VolunteerDto;
+import com.volunteer.management.dto.VolunteerSearchResultDto;
 import com.volunteer.management.entity.Event;         // <-- IMPORT Event entity
 import com.volunteer.management.entity.User;          // <-- IMPORT User entity
 import com.volunteer.management.entity.Volunteer;     // <-- IMPORT Volunteer entity
 import com.volunteer.management.repository.UserRepository;      // <-- IMPORT UserRepository
 import com.volunteer.management.repository.VolunteerRepository; // <-- IMPORT VolunteerRepository
+import com.volunteer.management.service.ExportService;
+import com.volunteer.management.service.VolunteerSearchService;
 import com.volunteer.management.service.VolunteerService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -19,6 +25,7 @@ import org.springframework.security.core.userdetails.UserDetails; // <-- IMPORT
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException; // <-- IMPORT ResponseStatusException
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Set; // <-- IMPORT Set
 import java.util.stream.Collectors; // <-- IMPORT Collectors
@@ -31,6 +38,8 @@ public class VolunteerController {
     private final VolunteerService volunteerService;
     private final UserRepository userRepository; // <-- Inject UserRepository
     private final VolunteerRepository volunteerRepository; // <-- Inject VolunteerRepository
+    private final ExportService exportService;
+    private final VolunteerSearchService volunteerSearchService;
 
     // === Standard Volunteer CRUD Endpoints ===
 
@@ -41,6 +50,28 @@ public class VolunteerController {
         return ResponseEntity.ok(volunteers);
     }
 
+    // Full table as NDJSON (default) or CSV, streamed row by row; see ExportService
+    @GetMapping("/volunteers/export") // Full path: /api/volunteers/export
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportVolunteers(@RequestParam(defaultValue = "ndjson") String format, HttpServletResponse response)
+            throws IOException {
+        ExportService.Format exportFormat = ExportService.Format.parse(format);
+        response.setContentType(exportFormat.contentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"volunteers." + exportFormat.fileExtension() + "\"");
+        exportService.exportVolunteers(exportFormat, response.getOutputStream());
+    }
+
+    // Ranked by how many of the comma-separated skills each volunteer has; pass nextCursor back for more
+    @GetMapping("/volunteers/search") // Full path: /api/volunteers/search?skills=first aid,driving
+    @PreAuthorize("hasRole('ADMIN') or hasRole('ORGANIZER')")
+    public ResponseEntity<CursorPageDto<VolunteerSearchResultDto>> searchVolunteers(
+            @RequestParam String skills,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + VolunteerSearchService.DEFAULT_PAGE_SIZE) int size) {
+        return ResponseEntity.ok(volunteerSearchService.search(skills, cursor, size));
+    }
+
     @GetMapping("/volunteers/{id}") // Full path: /api/volunteers/{id}
     public ResponseEntity<VolunteerDto> getVolunteerById(@PathVariable Long id) {
         VolunteerDto volunteerDto = volunteerService.getVolunteerById(id);
@@ -0,0 +1,26 @@
+package com.volunteer.management.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.volunteer.management.entity.AvailabilitySlot;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+// A weekly availability window, e.g. {"dayOfWeek": "SATURDAY", "startTime": "09:00", "endTime": "13:00"}.
+// endTime "00:00" means until midnight.
+public record AvailabilitySlotDto(
+    DayOfWeek dayOfWeek,
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    LocalTime startTime,
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+    LocalTime endTime
+) {
+
+    public static AvailabilitySlotDto from(AvailabilitySlot slot) {
+        return new AvailabilitySlotDto(slot.getDayOfWeek(), slot.getStartTime(), slot.getEndTime());
+    }
+
+    public AvailabilitySlot toSlot() {
+        return new AvailabilitySlot(dayOfWeek, startTime, endTime);
+    }
+}
@@ -0,0 +1,18 @@
+package com.volunteer.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// One page of a keyset-paginated listing.
+// nextCursor is opaque to clients: pass it back unchanged to fetch the following page.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+    private List<T> items;
+    private String nextCursor; // null when there are no more results
+    private boolean hasMore;
+}
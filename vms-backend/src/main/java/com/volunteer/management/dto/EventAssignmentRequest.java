@@ -0,0 +1,11 @@
+package com.volunteer.management.dto;
+
+import java.util.List;
+
+// Body of POST /api/events/{eventId}/assignments: volunteer ids to add to and remove from
+// the roster in one go. Either list may be empty or missing, not both.
+public record EventAssignmentRequest(
+        List<Long> assign,
+        List<Long> unassign
+) {
+}
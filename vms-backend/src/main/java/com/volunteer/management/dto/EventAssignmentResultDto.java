@@ -0,0 +1,24 @@
+package com.volunteer.management.dto;
+
+import java.util.List;
+
+// What POST /api/events/{eventId}/assignments changed, instead of the whole event.
+// Every requested id shows up in exactly one list, in request order:
+//  - assigned / unassigned: the roster changed
+//  - alreadyAssigned / notAssigned: nothing to do
+//  - unknownVolunteers: no such volunteer
+//  - overCapacity: valid, but the event had no slot left for them
+// promotedFromWaitlist counts volunteers moved up into slots the unassignments freed.
+public record EventAssignmentResultDto(
+        Long eventId,
+        List<Long> assigned,
+        List<Long> alreadyAssigned,
+        List<Long> unassigned,
+        List<Long> notAssigned,
+        List<Long> unknownVolunteers,
+        List<Long> overCapacity,
+        int promotedFromWaitlist,
+        int registeredCount,
+        Integer slotsAvailable
+) {
+}
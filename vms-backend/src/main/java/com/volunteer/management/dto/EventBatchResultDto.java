@@ -0,0 +1,17 @@
+package com.volunteer.management.dto;
+
+import java.util.List;
+
+// Response of POST /api/events/batch: one item per submitted event, in request order
+public record EventBatchResultDto(
+    int created,
+    int rejected,
+    List<Item> items
+) {
+
+    public enum Status { CREATED, REJECTED }
+
+    // id is set for CREATED items, errors for REJECTED ones
+    public record Item(int index, Status status, Long id, List<String> errors) {
+    }
+}
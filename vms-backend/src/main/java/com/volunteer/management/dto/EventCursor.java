@@ -0,0 +1,37 @@
+package com.volunteer.management.dto;
+
+import com.volunteer.management.exception.ApiException;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Keyset position in the (startDateTime, id) ordering of events.
+// Encoded as URL-safe Base64 so clients treat it as an opaque continuation token.
+public record EventCursor(
+    LocalDateTime startDateTime,
+    Long id
+) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = startDateTime.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EventCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int split = raw.lastIndexOf(SEPARATOR);
+            if (split <= 0) {
+                throw new IllegalArgumentException("missing separator");
+            }
+            return new EventCursor(LocalDateTime.parse(raw.substring(0, split)), Long.valueOf(raw.substring(split + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.volunteer.management.dto;
+
+import java.time.LocalDateTime;
+
+// One line of the event export (no roster); read by a streaming constructor query
+public record EventExportRow(
+    Long id,
+    String name,
+    String description,
+    String location,
+    LocalDateTime startDateTime,
+    LocalDateTime endDateTime,
+    Integer slotsAvailable,
+    int registeredCount,
+    Long organizerId,
+    String organizerName,
+    LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,18 @@
+package com.volunteer.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Optional filters for the public event listing. Null fields are ignored.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventFilter {
+    private LocalDateTime from;      // inclusive, on startDateTime
+    private LocalDateTime to;        // exclusive, on startDateTime
+    private String location;         // case-insensitive prefix match
+    private boolean hasFreeSlots;    // only events that can still take volunteers
+}
@@ -0,0 +1,26 @@
+package com.volunteer.management.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+// One occurrence of an event series. occurrenceStart identifies it within the series (and in
+// the /api/series/{id}/occurrences/{occurrenceStart} URLs) even after an organizer moves it.
+// eventId is null until the occurrence is materialized; from then on its times, capacity and
+// count come from that event.
+public record EventOccurrenceDto(
+        Long seriesId,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime occurrenceStart,
+        Long eventId,
+        String name,
+        String location,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime startDateTime,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime endDateTime,
+        Integer slotsAvailable,
+        int registeredCount,
+        boolean materialized
+) {
+}
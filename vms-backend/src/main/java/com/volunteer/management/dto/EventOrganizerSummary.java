@@ -0,0 +1,8 @@
+package com.volunteer.management.dto;
+
+// Organizer id/name for an event, read as a projection (see EventVolunteerSummary)
+public record EventOrganizerSummary(
+    Long eventId,
+    Long organizerId,
+    String organizerName
+) {}
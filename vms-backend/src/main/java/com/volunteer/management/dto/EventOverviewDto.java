@@ -0,0 +1,28 @@
+package com.volunteer.management.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+// Lightweight listing row for public browsing: no description, organizer or volunteer roster.
+// Built directly by a criteria projection, so no entities are loaded to produce it.
+public record EventOverviewDto(
+    Long id,
+    String name,
+    String location,
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    LocalDateTime startDateTime,
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    LocalDateTime endDateTime,
+    Integer slotsAvailable,
+    Integer registeredCount,
+    Integer remainingSlots // null when the event has no slot limit
+) {
+
+    // Used by the projection query; remainingSlots is derived
+    public EventOverviewDto(Long id, String name, String location, LocalDateTime startDateTime,
+                            LocalDateTime endDateTime, Integer slotsAvailable, Integer registeredCount) {
+        this(id, name, location, startDateTime, endDateTime, slotsAvailable, registeredCount,
+                slotsAvailable == null ? null : Math.max(slotsAvailable - registeredCount, 0));
+    }
+}
@@ -0,0 +1,41 @@
+package com.volunteer.management.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class EventSeriesDto {
+    private Long id;
+
+    @NotBlank(message = "Series name cannot be blank")
+    private String name;
+
+    private String description;
+    private String location;
+
+    // Start of the first occurrence; all occurrences start at its time of day
+    @NotNull(message = "First start date/time cannot be null")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime firstStart;
+
+    @NotNull(message = "Duration cannot be null")
+    @Min(value = 1, message = "Duration must be at least one minute")
+    @Max(value = 24 * 60, message = "Duration cannot exceed 24 hours")
+    private Integer durationMinutes;
+
+    // iCalendar RRULE subset, e.g. "FREQ=WEEKLY;BYDAY=SA" (see RecurrenceRule)
+    @NotBlank(message = "Recurrence rule cannot be blank")
+    private String recurrenceRule;
+
+    @Min(value = 0, message = "Slots available cannot be negative")
+    private Integer slotsAvailable;
+
+    private Long organizerId;
+    private String organizerName;
+}
@@ -0,0 +1,7 @@
+package com.volunteer.management.dto;
+
+import java.time.LocalDateTime;
+
+// Change-tracking columns of one event, read by projection to build HTTP validators
+public record EventVersion(Long id, long version, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,21 @@
+package com.volunteer.management.dto;
+
+// Flat row for one assigned volunteer of an event, read with a JPQL constructor
+// expression so no Volunteer/User entities (or the EAGER User.roles) get loaded.
+public record EventVolunteerSummary(
+    Long eventId,
+    Long volunteerId,
+    String name,
+    String email,
+    String phoneNumber,
+    String skills,
+    String availability
+) {
+
+    public VolunteerSummaryDto toSummaryDto() {
+        return new VolunteerSummaryDto(volunteerId,
+                name != null ? name : "N/A",
+                email != null ? email : "N/A",
+                phoneNumber, skills, availability);
+    }
+}
@@ -0,0 +1,22 @@
+package com.volunteer.management.dto;
+
+// Outcome of POST /api/registrations.
+// waitlistPosition is 1-based and only set when status is WAITLISTED.
+public record RegistrationResultDto(
+    Status status,
+    Long eventId,
+    Long waitlistPosition,
+    String message
+) {
+
+    public enum Status { REGISTERED, WAITLISTED }
+
+    public static RegistrationResultDto registered(Long eventId) {
+        return new RegistrationResultDto(Status.REGISTERED, eventId, null, "Successfully registered for the event.");
+    }
+
+    public static RegistrationResultDto waitlisted(Long eventId, long position) {
+        return new RegistrationResultDto(Status.WAITLISTED, eventId, position,
+                "The event is full. You are number " + position + " on the waitlist.");
+    }
+}
@@ -4,6 +4,8 @@ import lombok.Data; // Or use explicit getters/setters/constructors
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
+import java.util.List;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -13,4 +15,6 @@ public class VolunteerDetailsDto {
      private String phoneNumber;
      private String availability;
      private String skills;
+     // Optional structured availability; when absent it is derived from the availability text
+     private List<AvailabilitySlotDto> availabilitySlots;
 }
\ No newline at end of file
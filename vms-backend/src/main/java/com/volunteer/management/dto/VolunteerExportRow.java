@@ -0,0 +1,13 @@
+package com.volunteer.management.dto;
+
+// One line of the volunteer export; read by a streaming constructor query, so no entities are managed
+public record VolunteerExportRow(
+    Long id,
+    Long userId,
+    String name,
+    String email,
+    String phoneNumber,
+    String skills,
+    String availability
+) {
+}
@@ -4,6 +4,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
+import java.util.List;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -15,6 +17,7 @@ public class VolunteerProfileDto {
      private String phoneNumber; // From Volunteer
      private String availability; // From Volunteer
      private String skills; // From Volunteer
+     private List<AvailabilitySlotDto> availabilitySlots; // From Volunteer, sorted by day and start
      // Add other relevant fields from User or Volunteer as needed
 }
 
@@ -0,0 +1,18 @@
+package com.volunteer.management.dto;
+
+import java.util.List;
+
+// One volunteer suggested by /api/events/{id}/recommended-volunteers, with the features behind
+// the score: event skills they have, whether their availability covers the event, and how
+// many past events they worked. score is between 0 and 1.
+public record VolunteerRecommendationDto(
+    Long id,
+    String name,
+    String email,
+    String phoneNumber,
+    double score,
+    List<String> matchedSkills,
+    boolean available,
+    int pastEvents
+) {
+}
@@ -0,0 +1,35 @@
+package com.volunteer.management.dto;
+
+import com.volunteer.management.exception.ApiException;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Keyset position in the (score desc, volunteer id asc) ordering of a skill search.
+// Encoded like EventCursor, as an opaque URL-safe Base64 token.
+public record VolunteerSearchCursor(
+    long score,
+    Long id
+) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = "" + score + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static VolunteerSearchCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int split = raw.indexOf(SEPARATOR);
+            if (split <= 0) {
+                throw new IllegalArgumentException("missing separator");
+            }
+            return new VolunteerSearchCursor(Long.parseLong(raw.substring(0, split)), Long.valueOf(raw.substring(split + 1)));
+        } catch (IllegalArgumentException ex) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.volunteer.management.dto;
+
+import java.util.List;
+
+// One ranked hit of /api/volunteers/search: score is the number of requested skills matched
+public record VolunteerSearchResultDto(
+    Long id,
+    String name,
+    String email,
+    String phoneNumber,
+    String skills,
+    String availability,
+    int score,
+    List<String> matchedSkills
+) {
+}
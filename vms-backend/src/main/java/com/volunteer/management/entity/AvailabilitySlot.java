@@ -0,0 +1,36 @@
+package com.volunteer.management.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+// One weekly window a volunteer is available in, e.g. SATURDAY 09:00-13:00.
+// An endTime of 00:00 means "until midnight", so a whole day is 00:00-00:00.
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilitySlot {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "day_of_week", nullable = false, length = 9)
+    private DayOfWeek dayOfWeek;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalTime endTime;
+
+    public boolean isValid() {
+        return dayOfWeek != null && startTime != null && endTime != null
+                && (endTime.equals(LocalTime.MIDNIGHT) || endTime.isAfter(startTime));
+    }
+}
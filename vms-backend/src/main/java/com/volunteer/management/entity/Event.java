@@ -5,6 +5,9 @@ import lombok.Data; // Be mindful of @Data on Entities (see notes below)
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -16,13 +19,22 @@ import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.fasterxml.jackson.annotation.JsonBackReference; // Import if User entity needs it
 
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = {
+        // Keyset pagination of the public listing walks (start_date_time, id) in order
+        @Index(name = "idx_events_start_id", columnList = "start_date_time, id"),
+        @Index(name = "idx_events_location", columnList = "location")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "events")
 @Data // Includes @Getter, @Setter, @ToString, @EqualsAndHashCode, @RequiredArgsConstructor
 @NoArgsConstructor
 public class Event {
 
+    // From a sequence rather than IDENTITY so inserts can be batched (EventBatchService);
+    // pooled-lo (hibernate.id.optimizer.pooled.preferred) hands out 50 ids per nextval
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -42,8 +54,36 @@ public class Event {
 
     private Integer slotsAvailable;
 
+    // Set on events materialized from an EventSeries: the series and the occurrence slot this
+    // event stands for. occurrenceStart keeps the computed start even after the event is moved,
+    // so the slot is never materialized twice (unique with seriesId).
+    @Column(name = "series_id", updatable = false)
+    private Long seriesId;
+
+    @Column(name = "occurrence_start", updatable = false)
+    private LocalDateTime occurrenceStart;
+
+    // Denormalized size of assignedVolunteers, maintained only by SlotReservationService's
+    // conditional UPDATEs. Not updatable through the entity so a stale copy can never overwrite it.
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private int registeredCount;
+
+    // Change counter and timestamp behind the ETag / Last-Modified validators (EventService.Validator).
+    // Roster and count changes happen in native statements, so every bump is a SQL
+    // "version = version + 1" (EventRepository.touch* and the slot statements) rather than
+    // Hibernate's @Version, which would count from whatever stale copy the entity holds.
+    @Column(nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long version;
+
+    @Column(nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    private LocalDateTime updatedAt;
+
     // --- Event <-> Volunteer Relationship (Owning Side) ---
     @ManyToMany(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "event-rosters")
     @JoinTable(name = "event_volunteers",
             joinColumns = @JoinColumn(name = "event_id", referencedColumnName = "id"),
             inverseJoinColumns = @JoinColumn(name = "volunteer_id", referencedColumnName = "id"))
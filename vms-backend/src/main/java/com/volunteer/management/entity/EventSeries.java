@@ -0,0 +1,54 @@
+package com.volunteer.management.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+// A recurring event, e.g. a weekly shift. Occurrences are computed from recurrenceRule
+// (see RecurrenceRule) for whatever window is asked for; an occurrence only becomes an
+// Event row once someone registers for it or an organizer edits it (EventSeriesService).
+@Entity
+@Table(name = "event_series", indexes = {
+        @Index(name = "idx_event_series_organizer", columnList = "organizer_user_id")
+})
+@Data
+@NoArgsConstructor
+public class EventSeries {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 200)
+    private String name;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(length = 255)
+    private String location;
+
+    // Start of the first occurrence; every occurrence starts at this time of day
+    @Column(nullable = false)
+    private LocalDateTime firstStart;
+
+    @Column(nullable = false)
+    private int durationMinutes;
+
+    // Canonical RRULE text (RecurrenceRule.format())
+    @Column(nullable = false, length = 200)
+    private String recurrenceRule;
+
+    // Capacity each occurrence starts with; null means unlimited
+    private Integer slotsAvailable;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "organizer_user_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private User organizer;
+}
@@ -1,5 +1,6 @@
 package com.volunteer.management.entity;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.Objects;
@@ -8,14 +9,21 @@ import java.util.Objects;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference; // Import if User entity needs it
 
+import com.volunteer.management.util.AvailabilityParser;
+import com.volunteer.management.util.SkillTokenizer;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "volunteers")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "volunteers")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -32,9 +40,27 @@ public class Volunteer {
     @Column(columnDefinition = "TEXT")
     private String skills;
 
+    // Inverted index over skills: one (volunteer_id, skill) row per normalized token, kept in
+    // step by setSkills. Searches probe idx_volunteer_skills_skill instead of scanning skills text.
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "volunteer_skills",
+            joinColumns = @JoinColumn(name = "volunteer_id"),
+            indexes = @Index(name = "idx_volunteer_skills_skill", columnList = "skill, volunteer_id"))
+    @Column(name = "skill", length = SkillTokenizer.MAX_TOKEN_LENGTH, nullable = false)
+    @Setter(AccessLevel.NONE)
+    private Set<String> skillTags = new HashSet<>();
+
     @Column(columnDefinition = "TEXT")
     private String availability;
 
+    // Structured weekly availability behind VolunteerAvailabilityService's bitmap index.
+    // Derived from the availability text when that changes (AvailabilityParser), unless the
+    // client sends explicit slots, which replaceAvailabilitySlots then applies on top.
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "volunteer_availability", joinColumns = @JoinColumn(name = "volunteer_id"))
+    @Setter(AccessLevel.NONE)
+    private Set<AvailabilitySlot> availabilitySlots = new HashSet<>();
+
     // --- Volunteer <-> User Relationship ---
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", referencedColumnName = "id", unique = true)
@@ -42,10 +68,41 @@ public class Volunteer {
     private User user;
 
     // --- Volunteer <-> Event Relationship (Inverse Side) ---
+    // Deliberately not cached: it is never written through this side, so Hibernate
+    // would have nothing to invalidate it with when Event.assignedVolunteers changes.
     @ManyToMany(mappedBy = "assignedVolunteers", fetch = FetchType.LAZY)
     @JsonBackReference("event-volunteer") // Mark as the "back" part of the relationship
     private Set<Event> assignedEvents = new HashSet<>();
 
+    public void setSkills(String skills) {
+        this.skills = skills;
+        Set<String> tokens = SkillTokenizer.tokenize(skills);
+        if (!skillTags.equals(tokens)) { // Saves the collection rewrite when the skills didn't change
+            skillTags.clear();
+            skillTags.addAll(tokens);
+        }
+    }
+
+    public void setAvailability(String availability) {
+        // Unchanged text keeps the current slots, which may have been set explicitly
+        if (!Objects.equals(this.availability, availability)) {
+            this.availability = availability;
+            reparseAvailability();
+        }
+    }
+
+    public void reparseAvailability() {
+        replaceAvailabilitySlots(AvailabilityParser.parse(availability));
+    }
+
+    public void replaceAvailabilitySlots(Collection<AvailabilitySlot> slots) {
+        Set<AvailabilitySlot> replacement = new HashSet<>(slots);
+        if (!availabilitySlots.equals(replacement)) {
+            availabilitySlots.clear();
+            availabilitySlots.addAll(replacement);
+        }
+    }
+
     // --- Safe equals() and hashCode() based ONLY on ID ---
     @Override
     public boolean equals(Object o) {
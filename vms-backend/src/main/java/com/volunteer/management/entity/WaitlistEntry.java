@@ -0,0 +1,54 @@
+package com.volunteer.management.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// A volunteer queued for a full event. FIFO order is the id order within an event,
+// so the head of the queue is a single index lookup on (event_id, id).
+@Entity
+@Table(name = "event_waitlist",
+        uniqueConstraints = @UniqueConstraint(name = "uk_waitlist_event_volunteer", columnNames = {"event_id", "volunteer_id"}),
+        indexes = @Index(name = "idx_waitlist_event_order", columnList = "event_id, id"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class WaitlistEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "event_id", nullable = false)
+    private Event event;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "volunteer_id", nullable = false)
+    private Volunteer volunteer;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public WaitlistEntry(Event event, Volunteer volunteer) {
+        this.event = event;
+        this.volunteer = volunteer;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // --- Safe equals() and hashCode() based ONLY on ID (same approach as Volunteer) ---
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof WaitlistEntry entry)) return false;
+        return id != null && id.equals(entry.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -1,5 +1,6 @@
 package com.volunteer.management.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError; // Keep this if needed elsewhere, or remove if not
@@ -71,6 +72,20 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(ex, HttpStatus.CONFLICT, request);
     }
 
+    // ApiException carries its own status (e.g. 400 for a malformed cursor); without this it fell through to the 500 catch-all
+    @ExceptionHandler(ApiException.class)
+    public ResponseEntity<Object> handleApiException(ApiException ex, WebRequest request) {
+        return buildErrorResponse(ex, ex.getStatus(), request);
+    }
+
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<Object> handleServiceBusyException(ServiceBusyException ex, WebRequest request) {
+        ResponseEntity<Object> response = buildErrorResponse(ex, HttpStatus.SERVICE_UNAVAILABLE, request);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
     @ExceptionHandler(ActionForbiddenException.class)
     public ResponseEntity<Object> handleActionForbiddenException(ActionForbiddenException ex, WebRequest request) {
         return buildErrorResponse(ex, HttpStatus.FORBIDDEN, request);
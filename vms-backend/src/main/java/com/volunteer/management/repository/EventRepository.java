@@ -1,18 +1,186 @@
 package com.volunteer.management.repository;
+import com.volunteer.management.dto.EventExportRow;
+import com.volunteer.management.dto.EventOrganizerSummary;
+import com.volunteer.management.dto.EventVersion;
+import com.volunteer.management.dto.EventVolunteerSummary;
 import com.volunteer.management.entity.Event;
 import com.volunteer.management.entity.User;
 import com.volunteer.management.entity.Volunteer;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-public interface EventRepository extends JpaRepository<Event, Long> {
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecificationExecutor<Event>, EventRepositoryCustom {
     // Add custom queries if needed, e.g., find by date range
     List<Event> findByOrganizer(User organizer);
 
     Page<Event> findByOrganizer(User currentUser, Pageable pageable);
 
     List<Event> findByAssignedVolunteersContains(Volunteer currentVolunteer);
-}
\ No newline at end of file
+
+    // --- Slot reservation (see SlotReservationService) ---
+    // Native SQL so each step is a single statement that never loads the assignedVolunteers collection.
+    // Without a declared query space Hibernate would invalidate every second-level cache region on each
+    // of these; this space matches no cached region, and SlotReservationService evicts the one event instead.
+    // The touch* statements below use it too: they only change version/updated_at, which are never
+    // read from a cached Event.
+    String SLOT_QUERY_SPACE = "event_slots";
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SLOT_QUERY_SPACE))
+    @Query(value = "insert into event_volunteers (event_id, volunteer_id) values (:eventId, :volunteerId) " +
+            "on conflict do nothing", nativeQuery = true)
+    int insertAssignment(@Param("eventId") Long eventId, @Param("volunteerId") Long volunteerId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SLOT_QUERY_SPACE))
+    @Query(value = "delete from event_volunteers where event_id = :eventId and volunteer_id = :volunteerId",
+            nativeQuery = true)
+    int deleteAssignment(@Param("eventId") Long eventId, @Param("volunteerId") Long volunteerId);
+
+    // Succeeds (returns 1) only while there is capacity left; the row lock serializes concurrent callers
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SLOT_QUERY_SPACE))
+    @Query(value = "update events set registered_count = registered_count + 1, " + TOUCH + " where id = :eventId " +
+            "and (slots_available is null or registered_count < slots_available)", nativeQuery = true)
+    int incrementRegisteredCountIfCapacity(@Param("eventId") Long eventId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SLOT_QUERY_SPACE))
+    @Query(value = "update events set registered_count = registered_count - 1, " + TOUCH + " where id = :eventId " +
+            "and registered_count > 0", nativeQuery = true)
+    int decrementRegisteredCount(@Param("eventId") Long eventId);
+
+    // --- Bulk assignment (see EventAssignmentService) ---
+    // Same statements as above for many volunteers at once. The caller holds the event row
+    // lock (lockRegisteredCount) while it checks capacity, so the count can be adjusted unconditionally.
+    // Every roster change takes that lock first, before any event_volunteers row.
+
+    @Query(value = "select registered_count from events where id = :eventId for update", nativeQuery = true)
+    Optional<Integer> lockRegisteredCount(@Param("eventId") Long eventId);
+
+    @Query("select v.id from Event e join e.assignedVolunteers v where e.id = :eventId and v.id in :volunteerIds")
+    List<Long> findAssignedVolunteerIds(@Param("eventId") Long eventId, @Param("volunteerIds") Collection<Long> volunteerIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SLOT_QUERY_SPACE))
+    @Query(value = "insert into event_volunteers (event_id, volunteer_id) " +
+            "select :eventId, v.id from volunteers v where v.id in (:volunteerIds) " +
+            "on conflict do nothing", nativeQuery = true)
+    int insertAssignments(@Param("eventId") Long eventId, @Param("volunteerIds") Collection<Long> volunteerIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SLOT_QUERY_SPACE))
+    @Query(value = "delete from event_volunteers where event_id = :eventId and volunteer_id in (:volunteerIds)",
+            nativeQuery = true)
+    int deleteAssignments(@Param("eventId") Long eventId, @Param("volunteerIds") Collection<Long> volunteerIds);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SLOT_QUERY_SPACE))
+    @Query(value = "update events set registered_count = registered_count + :delta, " + TOUCH + " where id = :eventId",
+            nativeQuery = true)
+    int adjustRegisteredCount(@Param("eventId") Long eventId, @Param("delta") int delta);
+
+    // --- Change tracking for conditional GETs (see EventService.Validator) ---
+    // Anything that changes what an EventDto shows must bump version/updated_at of that event.
+    String TOUCH = "version = version + 1, updated_at = current_timestamp";
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SLOT_QUERY_SPACE))
+    @Query(value = "update events set " + TOUCH + " where id = :eventId", nativeQuery = true)
+    int touch(@Param("eventId") Long eventId);
+
+    // Events whose roster shows this volunteer's phone/skills/availability
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SLOT_QUERY_SPACE))
+    @Query(value = "update events set " + TOUCH + " where id in " +
+            "(select ev.event_id from event_volunteers ev where ev.volunteer_id = :volunteerId)", nativeQuery = true)
+    int touchEventsOfVolunteer(@Param("volunteerId") Long volunteerId);
+
+    // Events showing this user's name or email, as organizer or as a rostered volunteer
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SLOT_QUERY_SPACE))
+    @Query(value = "update events set " + TOUCH + " where organizer_user_id = :userId or id in " +
+            "(select ev.event_id from event_volunteers ev join volunteers v on v.id = ev.volunteer_id " +
+            "where v.user_id = :userId)", nativeQuery = true)
+    int touchEventsOfUser(@Param("userId") Long userId);
+
+    @Query("select new com.volunteer.management.dto.EventVersion(e.id, e.version, e.updatedAt) " +
+            "from Event e where e.id = :eventId")
+    Optional<EventVersion> findVersionById(@Param("eventId") Long eventId);
+
+    @Query(value = "select registered_count from events where id = :eventId", nativeQuery = true)
+    Integer findRegisteredCount(@Param("eventId") Long eventId);
+
+    // Repairs counters that drifted from the join table (e.g. rows written before the counter existed)
+    @Transactional
+    @Modifying
+    @Query(value = "update events e set registered_count = " +
+            "(select count(*) from event_volunteers ev where ev.event_id = e.id) " +
+            "where registered_count <> (select count(*) from event_volunteers ev where ev.event_id = e.id)",
+            nativeQuery = true)
+    int reconcileRegisteredCounts();
+
+    // --- Event series (see EventSeriesService) ---
+    // Materializes one occurrence of a series as an events row. The id comes from the column
+    // default (events_seq); a concurrent insert for the same slot loses on
+    // uk_events_series_occurrence and does nothing, so callers look the id up afterwards.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = SLOT_QUERY_SPACE))
+    @Query(value = "insert into events (name, description, location, start_date_time, end_date_time, " +
+            "slots_available, organizer_user_id, series_id, occurrence_start) " +
+            "select s.name, s.description, s.location, :occurrenceStart, :occurrenceEnd, " +
+            "s.slots_available, s.organizer_user_id, s.id, :occurrenceStart " +
+            "from event_series s where s.id = :seriesId " +
+            "on conflict do nothing", nativeQuery = true)
+    int insertOccurrence(@Param("seriesId") Long seriesId,
+                         @Param("occurrenceStart") LocalDateTime occurrenceStart,
+                         @Param("occurrenceEnd") LocalDateTime occurrenceEnd);
+
+    @Query("select e.id from Event e where e.seriesId = :seriesId and e.occurrenceStart = :occurrenceStart")
+    Optional<Long> findIdBySeriesIdAndOccurrenceStart(@Param("seriesId") Long seriesId,
+                                                      @Param("occurrenceStart") LocalDateTime occurrenceStart);
+
+    // Materialized occurrences whose computed slot lies in [from, to); served by uk_events_series_occurrence
+    @Query("select e from Event e where e.seriesId = :seriesId " +
+            "and e.occurrenceStart >= :from and e.occurrenceStart < :to order by e.occurrenceStart")
+    List<Event> findOccurrences(@Param("seriesId") Long seriesId,
+                                @Param("from") LocalDateTime from,
+                                @Param("to") LocalDateTime to);
+
+    // --- Read paths for DTO mapping ---
+    // Both load a whole batch of events in one round trip each, instead of
+    // lazily touching assignedVolunteers and volunteer.user per event.
+
+    @Query("select new com.volunteer.management.dto.EventVolunteerSummary(" +
+            "e.id, v.id, u.name, u.email, v.phoneNumber, v.skills, v.availability) " +
+            "from Event e join e.assignedVolunteers v left join v.user u " +
+            "where e.id in :eventIds")
+    List<EventVolunteerSummary> findVolunteerSummariesByEventIds(@Param("eventIds") Collection<Long> eventIds);
+
+    @Query("select new com.volunteer.management.dto.EventOrganizerSummary(e.id, o.id, o.name) " +
+            "from Event e join e.organizer o where e.id in :eventIds")
+    List<EventOrganizerSummary> findOrganizerSummariesByEventIds(@Param("eventIds") Collection<Long> eventIds);
+
+    // Export (see ExportService); same contract as VolunteerRepository.streamExportRows
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = VolunteerRepository.EXPORT_FETCH_SIZE))
+    @Query("select new com.volunteer.management.dto.EventExportRow(e.id, e.name, e.description, e.location, " +
+            "e.startDateTime, e.endDateTime, e.slotsAvailable, e.registeredCount, o.id, o.name, e.updatedAt) " +
+            "from Event e left join e.organizer o order by e.id")
+    Stream<EventExportRow> streamExportRows();
+}
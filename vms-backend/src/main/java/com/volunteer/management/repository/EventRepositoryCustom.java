@@ -0,0 +1,18 @@
+package com.volunteer.management.repository;
+
+import com.volunteer.management.dto.EventOverviewDto;
+import com.volunteer.management.dto.EventVersion;
+import com.volunteer.management.entity.Event;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+// Queries that Spring Data can't derive: specification filters combined with a DTO projection
+public interface EventRepositoryCustom {
+
+    // Overview rows matching spec, in (startDateTime, id) order, at most limit rows
+    List<EventOverviewDto> findOverviews(Specification<Event> spec, int limit);
+
+    // Same rows and order as findOverviews, reduced to what the listing ETag is computed from
+    List<EventVersion> findVersions(Specification<Event> spec, int limit);
+}
@@ -0,0 +1,65 @@
+package com.volunteer.management.repository;
+
+import com.volunteer.management.dto.EventOverviewDto;
+import com.volunteer.management.dto.EventVersion;
+import com.volunteer.management.entity.Event;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+class EventRepositoryCustomImpl implements EventRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<EventOverviewDto> findOverviews(Specification<Event> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventOverviewDto> query = cb.createQuery(EventOverviewDto.class);
+        Root<Event> root = query.from(Event.class);
+
+        // registeredCount is the maintained counter, so event_volunteers and users aren't touched at all
+        query.select(cb.construct(EventOverviewDto.class,
+                root.get("id"),
+                root.get("name"),
+                root.get("location"),
+                root.get("startDateTime"),
+                root.get("endDateTime"),
+                root.get("slotsAvailable"),
+                root.get("registeredCount")));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(root.get("startDateTime")), cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<EventVersion> findVersions(Specification<Event> spec, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventVersion> query = cb.createQuery(EventVersion.class);
+        Root<Event> root = query.from(Event.class);
+        query.select(cb.construct(EventVersion.class, root.get("id"), root.get("version"), root.get("updatedAt")));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(root.get("startDateTime")), cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,14 @@
+package com.volunteer.management.repository;
+
+import com.volunteer.management.entity.EventSeries;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface EventSeriesRepository extends JpaRepository<EventSeries, Long> {
+
+    @Query("select s.organizer.id from EventSeries s where s.id = :seriesId")
+    Optional<Long> findOrganizerIdById(@Param("seriesId") Long seriesId);
+}
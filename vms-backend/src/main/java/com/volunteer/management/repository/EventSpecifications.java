@@ -0,0 +1,44 @@
+package com.volunteer.management.repository;
+
+import com.volunteer.management.dto.EventCursor;
+import com.volunteer.management.entity.Event;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+// Building blocks for the filtered event listing. Only the predicates that are
+// actually requested end up in the SQL, so the planner can use the start-time index.
+public final class EventSpecifications {
+
+    private EventSpecifications() {
+    }
+
+    public static Specification<Event> startsAtOrAfter(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("startDateTime"), from);
+    }
+
+    public static Specification<Event> startsBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThan(root.get("startDateTime"), to);
+    }
+
+    public static Specification<Event> locationStartsWith(String location) {
+        String pattern = location.trim().toLowerCase().replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("location")), pattern, '\\');
+    }
+
+    // Events without a slot limit always have room
+    public static Specification<Event> hasFreeSlots() {
+        return (root, query, cb) -> cb.or(
+                cb.isNull(root.get("slotsAvailable")),
+                cb.lessThan(root.<Integer>get("registeredCount"), root.<Integer>get("slotsAvailable")));
+    }
+
+    // Strictly after the cursor position in (startDateTime, id) order
+    public static Specification<Event> after(EventCursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.greaterThan(root.get("startDateTime"), cursor.startDateTime()),
+                cb.and(
+                        cb.equal(root.get("startDateTime"), cursor.startDateTime()),
+                        cb.greaterThan(root.get("id"), cursor.id())));
+    }
+}
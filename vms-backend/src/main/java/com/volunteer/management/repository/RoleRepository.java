@@ -1,7 +1,12 @@
 package com.volunteer.management.repository;
 import com.volunteer.management.entity.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import java.util.Optional;
 public interface RoleRepository extends JpaRepository<Role, Long> {
+    // Looked up on every registration; served from the query cache until the roles table changes
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Role> findByName(String name);
 }
\ No newline at end of file
@@ -1,12 +1,23 @@
 package com.volunteer.management.repository;
 
+import com.volunteer.management.dto.VolunteerExportRow;
+import com.volunteer.management.dto.VolunteerSummaryDto;
 import com.volunteer.management.entity.User;
 import com.volunteer.management.entity.Volunteer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
+import java.util.stream.Stream;
 
 
 @Repository // Optional annotation when extending JpaRepository
@@ -19,4 +30,83 @@ public interface VolunteerRepository extends JpaRepository<Volunteer, Long> {
     Optional<Volunteer>  findByUserId(Long userId);
     Optional<Volunteer> findByUser(User user);
 
-}
\ No newline at end of file
+    // Export (see ExportService): must be consumed inside a transaction and closed.
+    // The fetch size makes the PostgreSQL driver use a cursor instead of buffering every row.
+    String EXPORT_FETCH_SIZE = "500";
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("select new com.volunteer.management.dto.VolunteerExportRow(" +
+            "v.id, u.id, u.name, u.email, v.phoneNumber, v.skills, v.availability) " +
+            "from Volunteer v left join v.user u order by v.id")
+    Stream<VolunteerExportRow> streamExportRows();
+
+    // --- Skill search (see VolunteerSearchService) ---
+    // Ranked (volunteer_id, score) rows straight off the volunteer_skills index; score is the
+    // number of the requested skills a volunteer has. Native because the keyset condition
+    // sits in HAVING. Each row is Object[]{volunteerId, score}.
+
+    @Query(value = "select vs.volunteer_id, count(*) as score from volunteer_skills vs " +
+            "where vs.skill in (:skills) group by vs.volunteer_id " +
+            "order by score desc, vs.volunteer_id limit :limit", nativeQuery = true)
+    List<Object[]> findSkillMatches(@Param("skills") Collection<String> skills, @Param("limit") int limit);
+
+    @Query(value = "select vs.volunteer_id, count(*) as score from volunteer_skills vs " +
+            "where vs.skill in (:skills) group by vs.volunteer_id " +
+            "having count(*) < :score or (count(*) = :score and vs.volunteer_id > :id) " +
+            "order by score desc, vs.volunteer_id limit :limit", nativeQuery = true)
+    List<Object[]> findSkillMatchesAfter(@Param("skills") Collection<String> skills, @Param("score") long score,
+                                         @Param("id") Long id, @Param("limit") int limit);
+
+    // Object[]{volunteerId, skill} for the requested skills each of these volunteers has
+    @Query(value = "select vs.volunteer_id, vs.skill from volunteer_skills vs " +
+            "where vs.volunteer_id in (:ids) and vs.skill in (:skills)", nativeQuery = true)
+    List<Object[]> findMatchedSkills(@Param("ids") Collection<Long> ids, @Param("skills") Collection<String> skills);
+
+    @Query("select new com.volunteer.management.dto.VolunteerSummaryDto(" +
+            "v.id, u.name, u.email, v.phoneNumber, v.skills, v.availability) " +
+            "from Volunteer v left join v.user u where v.id in :ids")
+    List<VolunteerSummaryDto> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    // Volunteers whose skills text has never been indexed, e.g. rows that predate volunteer_skills
+    // (walked by id, so a row whose text yields no tokens can't be picked up again)
+    @Query("select v from Volunteer v where v.id > :afterId and v.skills is not null and v.skills <> '' " +
+            "and v.skillTags is empty order by v.id")
+    List<Volunteer> findWithUnindexedSkills(@Param("afterId") Long afterId, Limit limit);
+
+    // --- Availability index (see VolunteerAvailabilityService) ---
+
+    // Object[]{volunteerId, dayOfWeek, startTime, endTime}, grouped by volunteer
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("select v.id, s.dayOfWeek, s.startTime, s.endTime from Volunteer v join v.availabilitySlots s order by v.id")
+    Stream<Object[]> streamAvailabilitySlots();
+
+    // Volunteers with availability text that was never parsed into slots
+    @Query("select v from Volunteer v where v.id > :afterId and v.availability is not null and v.availability <> '' " +
+            "and v.availabilitySlots is empty order by v.id")
+    List<Volunteer> findWithUnparsedAvailability(@Param("afterId") Long afterId, Limit limit);
+
+    // --- Recommendation features (see VolunteerRecommendationService) ---
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("select v.id from Volunteer v order by v.id")
+    Stream<Long> streamIds();
+
+    // Object[]{volunteerId, skill}
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query("select v.id, t from Volunteer v join v.skillTags t")
+    Stream<Object[]> streamSkillTags();
+
+    // Object[]{volunteerId, number of events they were assigned to that ended before :now}
+    @Query("select v.id, count(e) from Event e join e.assignedVolunteers v where e.endDateTime < :now group by v.id")
+    List<Object[]> countPastEvents(@Param("now") LocalDateTime now);
+
+    // Volunteers assigned to any event overlapping [start, end). That includes the event
+    // being staffed itself, so its current roster comes back too.
+    @Query("select distinct v.id from Event e join e.assignedVolunteers v " +
+            "where e.startDateTime < :end and e.endDateTime > :start")
+    List<Long> findIdsBusyBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // The ids among :ids that belong to a volunteer (bulk assignment reports the rest as unknown)
+    @Query("select v.id from Volunteer v where v.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,39 @@
+package com.volunteer.management.repository;
+
+import com.volunteer.management.entity.WaitlistEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface WaitlistRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    // Head of the queue. Callers hold the event row lock, which keeps concurrent promotions
+    // from taking the same entry without letting a later one jump ahead of it.
+    Optional<WaitlistEntry> findFirstByEventIdOrderByIdAsc(Long eventId);
+
+    // Keeps the original place in the queue if the volunteer is already waiting.
+    // The declared space keeps Hibernate from invalidating every cache region on each insert.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "event_waitlist"))
+    @Query(value = "insert into event_waitlist (event_id, volunteer_id, created_at) values (:eventId, :volunteerId, :createdAt) " +
+            "on conflict do nothing", nativeQuery = true)
+    int insertIfAbsent(@Param("eventId") Long eventId, @Param("volunteerId") Long volunteerId,
+                       @Param("createdAt") LocalDateTime createdAt);
+
+    Optional<WaitlistEntry> findByEventIdAndVolunteerId(Long eventId, Long volunteerId);
+
+    // 1-based position; a range count over the (event_id, id) index
+    @Query("select count(w) + 1 from WaitlistEntry w where w.event.id = :eventId and w.id < :entryId")
+    long findPosition(@Param("eventId") Long eventId, @Param("entryId") Long entryId);
+
+    @Modifying
+    @Query("delete from WaitlistEntry w where w.event.id = :eventId")
+    int deleteByEventId(@Param("eventId") Long eventId);
+}
@@ -0,0 +1,69 @@
+package com.volunteer.management.security.services;
+
+import com.volunteer.management.exception.ServiceBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs BCrypt-heavy work (login, registration) off the servlet threads.
+ *
+ * The pool is sized to the CPU count with a short bounded queue: once it is full,
+ * new work is rejected straight away with ServiceBusyException (503 + Retry-After)
+ * instead of piling up and starving Tomcat threads needed by cheap requests.
+ * Each operation is timed as auth.password.work{operation=...}; queue depth and
+ * pool usage are published under executor.* with name=password-work.
+ */
+@Component
+public class PasswordWorkExecutor implements DisposableBean {
+
+    private final ExecutorService executor;
+    private final MeterRegistry meterRegistry;
+    private final long retryAfterSeconds;
+
+    public PasswordWorkExecutor(MeterRegistry meterRegistry,
+                                @Value("${app.security.password-pool.threads:0}") int threads,
+                                @Value("${app.security.password-pool.queue-capacity:64}") int queueCapacity,
+                                @Value("${app.security.password-pool.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.meterRegistry = meterRegistry;
+        this.retryAfterSeconds = retryAfterSeconds;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-work-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "password-work");
+    }
+
+    public <T> CompletableFuture<T> submit(String operation, Supplier<T> work) {
+        Timer timer = Timer.builder("auth.password.work").tag("operation", operation).register(meterRegistry);
+        try {
+            return CompletableFuture.supplyAsync(() -> timer.record(work), executor);
+        } catch (RejectedExecutionException ex) {
+            meterRegistry.counter("auth.password.rejected", "operation", operation).increment();
+            throw new ServiceBusyException("Too many concurrent " + operation + " requests, please retry shortly.", retryAfterSeconds);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
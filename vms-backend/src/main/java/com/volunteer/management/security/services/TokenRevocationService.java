@@ -0,0 +1,147 @@
+package com.volunteer.management.security.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.volunteer.management.exception.ServiceBusyException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Date;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * In-memory, bounded record of revoked JWTs, checked by JwtAuthenticationFilter.
+ *
+ * Tokens are stateless, so this is the only way to kill one before it expires:
+ * either a single token by its id (logout), or every token of a user issued before
+ * a point in time (e.g. after an email change, since the token carries the old one).
+ * Each entry expires on its own exactly when the tokens it refers to would have, and
+ * each store holds at most maxEntries. A full store fails closed: the revocation is
+ * refused with 503 rather than dropping one that still matters.
+ * State is per instance; multi-node deployments need a shared store.
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final long RETRY_AFTER_SECONDS = 60;
+
+    private final boolean enabled;
+
+    private final Semaphore tokenIdPermits;
+    private final Semaphore userPermits;
+    private final Cache<String, Long> revokedTokenIds; // jti -> expiry (epoch ms)
+    private final Cache<Long, Long> userNotBefore;     // user id -> issued-at cutoff (epoch ms)
+
+    public TokenRevocationService(@Value("${app.jwt.revocation.enabled:true}") boolean enabled,
+                                  @Value("${app.jwt.revocation.max-entries:10000}") int maxEntries,
+                                  @Value("${app.jwt.expiration-ms}") long tokenLifetimeMs) {
+        this.enabled = enabled;
+        this.tokenIdPermits = new Semaphore(maxEntries);
+        this.userPermits = new Semaphore(maxEntries);
+        this.revokedTokenIds = newStore(tokenIdPermits, expiry -> expiry);
+        // A cutoff only matters while tokens issued before it can still be valid
+        this.userNotBefore = newStore(userPermits, cutoff -> cutoff + tokenLifetimeMs);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void revokeToken(String tokenId, Date expiresAt) {
+        if (!enabled || tokenId == null || expiresAt == null || expiresAt.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+        if (!store(revokedTokenIds, tokenIdPermits, tokenId, expiresAt.getTime())) {
+            throw new ServiceBusyException("Too many tokens revoked recently; try again later.", RETRY_AFTER_SECONDS);
+        }
+    }
+
+    // Invalidates every token of the user issued up to now
+    public void revokeAllForUser(Long userId) {
+        if (!enabled || userId == null) {
+            return;
+        }
+        if (!store(userNotBefore, userPermits, userId, System.currentTimeMillis())) {
+            throw new ServiceBusyException("Too many users' tokens revoked recently; try again later.", RETRY_AFTER_SECONDS);
+        }
+    }
+
+    // UserService already revoked inside its transaction, so a full store rolls the change back.
+    // Once it commits and the cached UserDetails are gone, the cutoff moves up to cover tokens
+    // issued from the old data in between; the entry exists, so this never needs a new slot.
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        revokeAllForUser(event.userId());
+    }
+
+    public boolean isRevoked(String tokenId, Long userId, Date issuedAt) {
+        if (!enabled) {
+            return false;
+        }
+        if (tokenId != null && revokedTokenIds.getIfPresent(tokenId) != null) {
+            return true;
+        }
+        if (userId != null && issuedAt != null) {
+            Long cutoff = userNotBefore.getIfPresent(userId);
+            // iat has second precision, so a token issued in the same second as the cutoff counts as revoked
+            return cutoff != null && issuedAt.getTime() <= cutoff;
+        }
+        return false;
+    }
+
+    // Adds the entry, or moves an existing one later; false if the store is full of live entries
+    private static <K> boolean store(Cache<K, Long> cache, Semaphore permits, K key, long value) {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            boolean[] admitted = {true};
+            cache.asMap().compute(key, (k, existing) -> {
+                if (existing != null) {
+                    return Math.max(existing, value);
+                }
+                admitted[0] = permits.tryAcquire();
+                return admitted[0] ? value : null;
+            });
+            if (admitted[0]) {
+                return true;
+            }
+            // Expired entries are evicted lazily, in the timer wheel's ~1s steps; flush them and try once more
+            cache.cleanUp();
+        }
+        return false;
+    }
+
+    // Every entry holds a permit until it lapses, which keeps the size exact under concurrent revocations
+    private static <K> Cache<K, Long> newStore(Semaphore permits, LongUnaryOperator lapsesAt) {
+        return Caffeine.newBuilder()
+                .expireAfter(new Expiry<K, Long>() {
+                    @Override
+                    public long expireAfterCreate(K key, Long value, long currentTime) {
+                        return untilLapsed(value);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(K key, Long value, long currentTime, long currentDuration) {
+                        return untilLapsed(value);
+                    }
+
+                    @Override
+                    public long expireAfterRead(K key, Long value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    private long untilLapsed(Long value) {
+                        long millis = Math.max(0, lapsesAt.applyAsLong(value) - System.currentTimeMillis());
+                        return TimeUnit.MILLISECONDS.toNanos(millis);
+                    }
+                })
+                .evictionListener((K key, Long value, RemovalCause cause) -> permits.release())
+                .build();
+    }
+}
@@ -0,0 +1,10 @@
+package com.volunteer.management.security.services;
+
+import java.util.Set;
+
+// Published when a user's email, roles or other security-relevant data change.
+// principalKeys holds every username/email the user could previously be looked up by.
+public record UserAccountChangedEvent(
+    Long userId,
+    Set<String> principalKeys
+) {}
@@ -1,29 +1,107 @@
 package com.volunteer.management.security.services; // Or your preferred package
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.volunteer.management.entity.User;
 import com.volunteer.management.repository.UserRepository; // Your JPA repository for User
-import lombok.RequiredArgsConstructor;
-
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Arrays;
 
 @Service
-@RequiredArgsConstructor
 @Primary
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository; // Inject your User repository
+    private final MeterRegistry meterRegistry;
+
+    // Bounded by size and age. Each user is stored under both username and email, since
+    // findByUsernameOrEmail accepts either. null when app.security.user-cache.enabled=false.
+    private final Cache<String, UserDetailsImpl> cache;
+
+    public UserDetailsServiceImpl(UserRepository userRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.security.user-cache.enabled:true}") boolean cacheEnabled,
+                                  @Value("${app.security.user-cache.max-size:10000}") long maxSize,
+                                  @Value("${app.security.user-cache.ttl:5m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.meterRegistry = meterRegistry;
+        if (cacheEnabled) {
+            this.cache = Caffeine.newBuilder()
+                    .maximumSize(maxSize)
+                    .expireAfterWrite(ttl)
+                    .recordStats()
+                    .build();
+            // cache.gets{result=hit|miss}, cache.evictions, cache.size tagged cache=userDetails
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, "userDetails");
+        } else {
+            this.cache = null;
+        }
+    }
 
     @Override
 public UserDetails loadUserByUsername(String usernameOrEmail) throws UsernameNotFoundException {
-    User user = userRepository.findByUsernameOrEmail(usernameOrEmail, usernameOrEmail)
-            .orElseThrow(() -> new UsernameNotFoundException("User Not Found with username or email: " + usernameOrEmail));
+    if (cache == null) {
+        return load(usernameOrEmail);
+    }
+    UserDetailsImpl cached = cache.getIfPresent(usernameOrEmail);
+    if (cached != null) {
+        return cached;
+    }
+    UserDetailsImpl loaded = load(usernameOrEmail);
+    cache.put(loaded.getUsername(), loaded);
+    if (loaded.getEmail() != null) {
+        cache.put(loaded.getEmail(), loaded);
+    }
+    return loaded;
+}
+
+    private UserDetailsImpl load(String usernameOrEmail) {
+        User user = userRepository.findByUsernameOrEmail(usernameOrEmail, usernameOrEmail)
+                .orElseThrow(() -> new UsernameNotFoundException("User Not Found with username or email: " + usernameOrEmail));
+
+        // IMPORTANT: Create and return UserDetailsImpl, NOT the User entity itself
+        return UserDetailsImpl.build(user);
+    }
+
+    /**
+     * Called by DaoAuthenticationProvider after a successful login when the stored hash
+     * was made with a weaker BCrypt strength than the one configured now.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newEncodedPassword) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User Not Found with username: " + userDetails.getUsername()));
+        user.setPassword(newEncodedPassword);
+        userRepository.save(user);
+        meterRegistry.counter("auth.password.rehash").increment();
+        if (cache != null) {
+            cache.invalidateAll(Arrays.asList(user.getUsername(), user.getEmail()));
+        }
+        return UserDetailsImpl.build(user);
+    }
 
-    // IMPORTANT: Create and return UserDetailsImpl, NOT the User entity itself
-    return UserDetailsImpl.build(user);
+    // After commit, so a request racing the change can't re-cache the old row. Runs before
+    // TokenRevocationService moves the user's cutoff, so no token is issued from the old row after it.
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        if (cache != null) {
+            cache.invalidateAll(event.principalKeys());
+        }
+    }
 }
-}
\ No newline at end of file
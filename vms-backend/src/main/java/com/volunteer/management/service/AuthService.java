@@ -10,6 +10,7 @@ import com.volunteer.management.entity.User;
 import com.volunteer.management.exception.ApiException; // Reuse existing exception
 import com.volunteer.management.repository.RoleRepository;
 import com.volunteer.management.repository.UserRepository;
+import com.volunteer.management.security.services.TokenRevocationService;
 import com.volunteer.management.security.services.UserDetailsImpl; // Assuming this is your UserDetails implementation
 
 import lombok.RequiredArgsConstructor;
@@ -20,12 +21,10 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.context.SecurityContextHolder;
 // Import UsernameNotFoundException if you plan to use it elsewhere, but it's removed from the login flow here
 // import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional; // Keep for register
 
 import java.util.HashSet;
 import java.util.Set;
@@ -42,6 +41,7 @@ public class AuthService {
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
 
     /**
      * Authenticates a user and generates a JWT token along with user details.
@@ -54,7 +54,7 @@ public class AuthService {
      * @return JwtAuthResponse containing the token and user DTO.
      */
     public JwtAuthResponse login(LoginRequest loginRequest) {
-        log.info("Attempting login for user: {}", loginRequest.getUsernameOrEmail()); // Add logging
+        log.debug("Attempting login for user: {}", loginRequest.getUsernameOrEmail());
 
         Authentication authentication;
         try {
@@ -76,9 +76,8 @@ public class AuthService {
             throw e; // Re-throw original exception for now
         }
 
-        // 2. If authentication successful, set it in the SecurityContext
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-        log.debug("Security context updated for user: {}", loginRequest.getUsernameOrEmail());
+        // 2. Nothing goes into the SecurityContext: login runs on a PasswordWorkExecutor thread,
+        //    whose ThreadLocal context would outlive the request, and the JWT is the result anyway.
 
         // 3. Generate JWT token
         String token = jwtTokenProvider.generateToken(authentication);
@@ -114,7 +113,21 @@ public class AuthService {
     }
 
 
-    @Transactional // Registration should be transactional
+    /**
+     * Revokes the given token so it stops working before its expiry.
+     * Invalid or already-expired tokens are ignored.
+     */
+    public void logout(String token) {
+        jwtTokenProvider.parseClaims(token).ifPresent(claims -> {
+            tokenRevocationService.revokeToken(claims.getId(), claims.getExpiration());
+            log.info("Token revoked for user: {}", claims.getSubject());
+        });
+    }
+
+
+    // Not @Transactional: BCrypt takes tens of milliseconds and must not hold a pooled
+    // connection. The lookups are single reads and the insert is one save; the unique
+    // constraints on username/email still catch a concurrent duplicate.
     public String register(RegisterRequest registerRequest) {
         log.info("Attempting registration for username: {}", registerRequest.getUsername());
 
@@ -135,7 +148,7 @@ public class AuthService {
         user.setName(registerRequest.getName());
         user.setUsername(registerRequest.getUsername());
         user.setEmail(registerRequest.getEmail());
-        user.setPassword(passwordEncoder.encode(registerRequest.getPassword())); // Encode password
+        user.setPassword(passwordEncoder.encode(registerRequest.getPassword())); // Encode password (no transaction open)
 
         // Assign role(s)
         Set<Role> roles = new HashSet<>();
@@ -0,0 +1,172 @@
+package com.volunteer.management.service;
+
+import com.volunteer.management.entity.AvailabilitySlot;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of weekly availability: the week is cut into 672 fifteen-minute buckets,
+ * and each bucket holds a BitSet with one bit per volunteer who is free for all of it.
+ * "Who is free for the whole of this event" is then an AND over the buckets the event
+ * touches; a three-hour event is 12 BitSet ANDs, whatever the number of volunteers.
+ *
+ * Volunteers get a dense bit position on first insert; positions of removed volunteers are
+ * reused. At 100k volunteers the buckets take about 8.4 MB.
+ *
+ * Matching is conservative on both sides: a slot only counts for buckets it covers
+ * completely, and an event needs every bucket it overlaps at all.
+ */
+final class AvailabilityBitmap {
+
+    static final int BUCKET_MINUTES = 15;
+    static final int BUCKETS_PER_DAY = 24 * 60 / BUCKET_MINUTES;
+    static final int BUCKETS_PER_WEEK = 7 * BUCKETS_PER_DAY;
+
+    private final BitSet[] buckets = new BitSet[BUCKETS_PER_WEEK];
+    private final Map<Long, Integer> positions = new HashMap<>();
+    private final ArrayDeque<Integer> freePositions = new ArrayDeque<>();
+    private long[] volunteerIds = new long[1024];
+    private int nextPosition;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    AvailabilityBitmap() {
+        Arrays.setAll(buckets, i -> new BitSet());
+    }
+
+    // Replaces the volunteer's availability; no slots removes them
+    void put(long volunteerId, Collection<AvailabilitySlot> slots) {
+        BitSet week = weekOf(slots);
+        lock.writeLock().lock();
+        try {
+            Integer position = positions.get(volunteerId);
+            if (position != null) {
+                clear(position);
+            }
+            if (week.isEmpty()) {
+                if (position != null) {
+                    positions.remove(volunteerId);
+                    freePositions.push(position);
+                }
+                return;
+            }
+            if (position == null) {
+                position = allocate(volunteerId);
+            }
+            for (int b = week.nextSetBit(0); b >= 0; b = week.nextSetBit(b + 1)) {
+                buckets[b].set(position);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long volunteerId) {
+        put(volunteerId, List.of());
+    }
+
+    // Ids, ascending, of volunteers free for all of [start, end)
+    long[] availableFor(LocalDateTime start, LocalDateTime end) {
+        BitSet required = bucketsOverlapping(start, end);
+        if (required.isEmpty()) {
+            return new long[0];
+        }
+        long[] ids;
+        lock.readLock().lock();
+        try {
+            BitSet result = null;
+            for (int b = required.nextSetBit(0); b >= 0; b = required.nextSetBit(b + 1)) {
+                if (result == null) {
+                    result = (BitSet) buckets[b].clone();
+                } else {
+                    result.and(buckets[b]);
+                }
+                if (result.isEmpty()) {
+                    return new long[0];
+                }
+            }
+            ids = new long[result.cardinality()];
+            int i = 0;
+            for (int p = result.nextSetBit(0); p >= 0; p = result.nextSetBit(p + 1)) {
+                ids[i++] = volunteerIds[p];
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return positions.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int allocate(long volunteerId) {
+        int position = freePositions.isEmpty() ? nextPosition++ : freePositions.pop();
+        if (position == volunteerIds.length) {
+            volunteerIds = Arrays.copyOf(volunteerIds, volunteerIds.length * 2);
+        }
+        volunteerIds[position] = volunteerId;
+        positions.put(volunteerId, position);
+        return position;
+    }
+
+    private void clear(int position) {
+        for (BitSet bucket : buckets) {
+            bucket.clear(position);
+        }
+    }
+
+    // Buckets each slot covers completely
+    static BitSet weekOf(Collection<AvailabilitySlot> slots) {
+        BitSet week = new BitSet(BUCKETS_PER_WEEK);
+        for (AvailabilitySlot slot : slots) {
+            if (!slot.isValid()) {
+                continue;
+            }
+            int day = (slot.getDayOfWeek().getValue() - 1) * BUCKETS_PER_DAY;
+            int first = (slot.getStartTime().toSecondOfDay() / 60 + BUCKET_MINUTES - 1) / BUCKET_MINUTES;
+            int end = slot.getEndTime().equals(LocalTime.MIDNIGHT)
+                    ? BUCKETS_PER_DAY
+                    : slot.getEndTime().toSecondOfDay() / 60 / BUCKET_MINUTES;
+            if (end > first) {
+                week.set(day + first, day + end);
+            }
+        }
+        return week;
+    }
+
+    // Buckets [start, end) overlaps at all; a week or longer needs every bucket
+    static BitSet bucketsOverlapping(LocalDateTime start, LocalDateTime end) {
+        BitSet required = new BitSet(BUCKETS_PER_WEEK);
+        if (start == null || end == null || !end.isAfter(start)) {
+            return required;
+        }
+        if (Duration.between(start, end).toDays() >= 7) {
+            required.set(0, BUCKETS_PER_WEEK);
+            return required;
+        }
+        LocalDateTime bucketStart = start.withSecond(0).withNano(0)
+                .withMinute(start.getMinute() / BUCKET_MINUTES * BUCKET_MINUTES);
+        for (LocalDateTime t = bucketStart; t.isBefore(end); t = t.plusMinutes(BUCKET_MINUTES)) {
+            required.set((t.getDayOfWeek().getValue() - 1) * BUCKETS_PER_DAY
+                    + (t.getHour() * 60 + t.getMinute()) / BUCKET_MINUTES);
+        }
+        return required;
+    }
+}
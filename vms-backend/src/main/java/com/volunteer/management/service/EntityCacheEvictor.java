@@ -0,0 +1,54 @@
+package com.volunteer.management.service;
+
+import com.volunteer.management.entity.Event;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Explicit second-level cache eviction for writes Hibernate can't see: the native
+ * slot statements, and deletes on the inverse side of Event.assignedVolunteers.
+ *
+ * Eviction runs after commit. Evicting earlier would let a concurrent reader put
+ * the still-committed old row back into the cache before our change lands.
+ */
+@Component
+public class EntityCacheEvictor {
+
+    private static final String EVENT_ROSTER_ROLE = Event.class.getName() + ".assignedVolunteers";
+
+    private final Cache cache;
+
+    public EntityCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.getCache().unwrap(Cache.class);
+    }
+
+    // The event row (registered_count) and its cached roster
+    public void evictEvent(Long eventId) {
+        afterCommit(() -> {
+            cache.evictEntityData(Event.class, eventId);
+            cache.evictCollectionData(EVENT_ROSTER_ROLE, eventId);
+        });
+    }
+
+    // For when a volunteer disappears from rosters we can't cheaply enumerate
+    public void evictAllEventRosters() {
+        afterCommit(() -> cache.evictCollectionData(EVENT_ROSTER_ROLE));
+    }
+
+    // Also used by VolunteerAvailabilityService to update its index only once a change is committed
+    static void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+}
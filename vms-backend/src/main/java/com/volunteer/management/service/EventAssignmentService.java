@@ -0,0 +1,130 @@
+package com.volunteer.management.service;
+
+import com.volunteer.management.dto.EventAssignmentRequest;
+import com.volunteer.management.dto.EventAssignmentResultDto;
+import com.volunteer.management.entity.Event;
+import com.volunteer.management.exception.ApiException;
+import com.volunteer.management.exception.ResourceNotFoundException;
+import com.volunteer.management.repository.EventRepository;
+import com.volunteer.management.repository.VolunteerRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Adds and removes many volunteers on one event's roster in a single transaction, for
+ * organizers staffing a large event. The cost is a fixed handful of statements however many
+ * ids come in:
+ *  - lock the event row and read registered_count (capacity is checked once, under the lock)
+ *  - one lookup of which requested ids are already on the roster, one of which volunteers exist
+ *  - one DELETE and one INSERT ... SELECT for the join rows, one UPDATE of the counter
+ *
+ * New assignments are taken in request order until the event is full; the rest are reported
+ * as overCapacity rather than failing the whole request. Unassignments apply first, so a
+ * swap fits in a full event. Slots left free afterwards go to the waitlist, as with a single
+ * unassign.
+ */
+@Service
+@RequiredArgsConstructor
+public class EventAssignmentService {
+
+    private static final Logger log = LoggerFactory.getLogger(EventAssignmentService.class);
+    public static final int MAX_VOLUNTEERS = 500;
+
+    private final EventRepository eventRepository;
+    private final VolunteerRepository volunteerRepository;
+    private final WaitlistService waitlistService;
+    private final EntityCacheEvictor cacheEvictor;
+
+    @Transactional
+    public EventAssignmentResultDto applyAssignments(Long eventId, EventAssignmentRequest request) {
+        Set<Long> assign = distinct(request == null ? null : request.assign());
+        Set<Long> unassign = distinct(request == null ? null : request.unassign());
+        if (assign.isEmpty() && unassign.isEmpty()) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "At least one volunteer id to assign or unassign is required.");
+        }
+        if (assign.size() + unassign.size() > MAX_VOLUNTEERS) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "At most " + MAX_VOLUNTEERS + " volunteers can be changed at once.");
+        }
+        List<Long> both = assign.stream().filter(unassign::contains).toList();
+        if (!both.isEmpty()) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "Volunteer ids " + both + " are both assigned and unassigned.");
+        }
+
+        int registeredCount = eventRepository.lockRegisteredCount(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+        Set<Long> requested = new HashSet<>(assign);
+        requested.addAll(unassign);
+        Set<Long> onRoster = new HashSet<>(eventRepository.findAssignedVolunteerIds(eventId, requested));
+
+        List<Long> unassigned = new ArrayList<>();
+        List<Long> notAssigned = new ArrayList<>();
+        unassign.forEach(id -> (onRoster.contains(id) ? unassigned : notAssigned).add(id));
+        if (!unassigned.isEmpty()) {
+            eventRepository.deleteAssignments(eventId, unassigned);
+        }
+
+        List<Long> alreadyAssigned = new ArrayList<>();
+        List<Long> candidates = new ArrayList<>();
+        assign.forEach(id -> (onRoster.contains(id) ? alreadyAssigned : candidates).add(id));
+        Set<Long> existing = candidates.isEmpty() ? Set.of() : new HashSet<>(volunteerRepository.findExistingIds(candidates));
+        List<Long> unknownVolunteers = new ArrayList<>();
+        List<Long> assigned = new ArrayList<>();
+        List<Long> overCapacity = new ArrayList<>();
+        int free = event.getSlotsAvailable() == null ? Integer.MAX_VALUE
+                : Math.max(0, event.getSlotsAvailable() - (registeredCount - unassigned.size()));
+        for (Long id : candidates) {
+            if (!existing.contains(id)) {
+                unknownVolunteers.add(id);
+            } else if (assigned.size() < free) {
+                assigned.add(id);
+            } else {
+                overCapacity.add(id);
+            }
+        }
+        // The event row lock keeps other roster changes out, so a row is only skipped if its
+        // volunteer was deleted meanwhile; report what actually went in
+        int inserted = assigned.isEmpty() ? 0 : eventRepository.insertAssignments(eventId, assigned);
+        if (inserted < assigned.size()) {
+            Set<Long> nowOnRoster = new HashSet<>(eventRepository.findAssignedVolunteerIds(eventId, assigned));
+            assigned.stream().filter(id -> !nowOnRoster.contains(id)).forEach(unknownVolunteers::add);
+            assigned.retainAll(nowOnRoster);
+        }
+
+        int promoted = 0;
+        if (inserted > 0 || !unassigned.isEmpty()) {
+            eventRepository.adjustRegisteredCount(eventId, inserted - unassigned.size());
+            cacheEvictor.evictEvent(eventId);
+            if (!unassigned.isEmpty() && overCapacity.isEmpty()) {
+                promoted = waitlistService.promote(eventId);
+            }
+            registeredCount += inserted - unassigned.size() + promoted;
+        }
+        log.info("Event ID {}: assigned {}, unassigned {}, over capacity {}, promoted {} from the waitlist",
+                eventId, assigned.size(), unassigned.size(), overCapacity.size(), promoted);
+        return new EventAssignmentResultDto(eventId, assigned, alreadyAssigned, unassigned, notAssigned,
+                unknownVolunteers, overCapacity, promoted, registeredCount, event.getSlotsAvailable());
+    }
+
+    // Request order, duplicates and nulls dropped
+    private static Set<Long> distinct(Collection<Long> ids) {
+        Set<Long> distinct = new LinkedHashSet<>();
+        if (ids != null) {
+            ids.stream().filter(Objects::nonNull).forEach(distinct::add);
+        }
+        return distinct;
+    }
+}
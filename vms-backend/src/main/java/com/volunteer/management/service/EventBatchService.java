@@ -0,0 +1,140 @@
+package com.volunteer.management.service;
+
+import com.volunteer.management.dto.EventBatchResultDto;
+import com.volunteer.management.dto.EventDto;
+import com.volunteer.management.entity.Event;
+import com.volunteer.management.entity.User;
+import com.volunteer.management.exception.ApiException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Creates many events for one organizer in a single transaction, e.g. a whole season.
+ *
+ * All items are validated up front, together: bean validation as for a single POST, end not
+ * before start, and no two items in the batch for the same name, start and location. Invalid
+ * items are reported and skipped; the valid ones are inserted. Event ids come from a
+ * sequence in blocks of 50, so the inserts go out as JDBC batches of BATCH_SIZE rows, and
+ * the persistence context is flushed and cleared after each batch to keep memory flat.
+ */
+@Service
+@RequiredArgsConstructor
+public class EventBatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(EventBatchService.class);
+    public static final int MAX_EVENTS = 500;
+    static final int BATCH_SIZE = 50;
+
+    private final Validator validator;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private record Key(String name, LocalDateTime start, String location) {
+    }
+
+    @Transactional
+    public EventBatchResultDto createEvents(List<EventDto> events, User organizer) {
+        if (events == null || events.isEmpty()) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "At least one event is required.");
+        }
+        if (events.size() > MAX_EVENTS) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "At most " + MAX_EVENTS + " events can be created at once.");
+        }
+
+        List<List<String>> errors = validate(events);
+        Session session = entityManager.unwrap(Session.class);
+        Integer previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(BATCH_SIZE);
+        User organizerReference = entityManager.getReference(User.class, organizer.getId());
+
+        List<Event> created = new ArrayList<>();
+        Event[] byIndex = new Event[events.size()];
+        for (int i = 0; i < events.size(); i++) {
+            if (!errors.get(i).isEmpty()) {
+                continue;
+            }
+            Event event = toEntity(events.get(i), organizerReference);
+            entityManager.persist(event);
+            byIndex[i] = event;
+            created.add(event);
+            if (created.size() % BATCH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+                organizerReference = entityManager.getReference(User.class, organizer.getId());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        session.setJdbcBatchSize(previousBatchSize);
+
+        List<EventBatchResultDto.Item> items = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            items.add(byIndex[i] != null
+                    ? new EventBatchResultDto.Item(i, EventBatchResultDto.Status.CREATED, byIndex[i].getId(), List.of())
+                    : new EventBatchResultDto.Item(i, EventBatchResultDto.Status.REJECTED, null, errors.get(i)));
+        }
+        log.info("Batch of {} events for organizer {}: {} created", events.size(), organizer.getId(), created.size());
+        return new EventBatchResultDto(created.size(), events.size() - created.size(), items);
+    }
+
+    private List<List<String>> validate(List<EventDto> events) {
+        List<List<String>> errors = new ArrayList<>(events.size());
+        Map<Key, Integer> firstIndex = new HashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            EventDto dto = events.get(i);
+            List<String> itemErrors = new ArrayList<>();
+            if (dto == null) {
+                itemErrors.add("Event is missing");
+                errors.add(itemErrors);
+                continue;
+            }
+            for (ConstraintViolation<EventDto> violation : validator.validate(dto)) {
+                itemErrors.add(violation.getMessage());
+            }
+            itemErrors.sort(null);
+            if (dto.getStartDateTime() != null && dto.getEndDateTime() != null
+                    && dto.getEndDateTime().isBefore(dto.getStartDateTime())) {
+                itemErrors.add("End date/time must be after start date/time");
+            }
+            if (itemErrors.isEmpty()) {
+                Key key = new Key(dto.getName().trim(), dto.getStartDateTime(), Objects.toString(dto.getLocation(), "").trim());
+                Integer first = firstIndex.putIfAbsent(key, i);
+                if (first != null) {
+                    itemErrors.add("Duplicate of event " + first + " in this batch");
+                }
+            }
+            errors.add(itemErrors);
+        }
+        return errors;
+    }
+
+    // Same fields as EventService.createEvent
+    private static Event toEntity(EventDto dto, User organizer) {
+        Event event = new Event();
+        event.setName(dto.getName());
+        event.setDescription(dto.getDescription());
+        event.setLocation(dto.getLocation());
+        event.setStartDateTime(dto.getStartDateTime());
+        event.setEndDateTime(dto.getEndDateTime());
+        event.setSlotsAvailable(dto.getSlotsAvailable());
+        event.setOrganizer(organizer);
+        return event;
+    }
+}
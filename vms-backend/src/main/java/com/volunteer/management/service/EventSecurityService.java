@@ -4,7 +4,9 @@ package com.volunteer.management.service;
 import com.volunteer.management.entity.Event;
 import com.volunteer.management.entity.User;
 import com.volunteer.management.repository.EventRepository;
+import com.volunteer.management.repository.EventSeriesRepository;
 import com.volunteer.management.repository.UserRepository;
+import com.volunteer.management.security.services.UserDetailsImpl;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
@@ -19,6 +21,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class EventSecurityService {
 
     private final EventRepository eventRepository;
+    private final EventSeriesRepository eventSeriesRepository;
     // private final AuthService authService; // Or directly use SecurityContextHolder
 private final UserRepository userRepository;
     // Checks if the current user is the organizer of the specified event OR an Admin
@@ -39,21 +42,43 @@ private final UserRepository userRepository;
             return false; // Event not found or no organizer set (shouldn't happen if nullable=false)
         }
 
-        // Assuming principal is UserDetails (like our User entity) or just username string
-        Object principal = authentication.getPrincipal();
-        Long currentUserId;
-        if (principal instanceof User userDetails) {
-             currentUserId = userDetails.getId();
-        } else if (principal instanceof String username) {
-             // Need to fetch user ID based on username if Principal is just String
-             User currentUser = userRepository.findByUsername((String)principal)
-                  .orElseThrow(() -> new RuntimeException("Current user not found"));
-             currentUserId = currentUser.getId();
-        } else {
+        Long currentUserId = currentUserId(authentication);
+        if (currentUserId == null) {
             return false; // Unknown principal type
         }
 
-
         return event.getOrganizer().getId().equals(currentUserId);
     }
+
+    // Used in @PreAuthorize on the event endpoints: is the caller the organizer of this event?
+    public boolean isOrganizerOfEvent(Long eventId, Authentication authentication) {
+        Long currentUserId = currentUserId(authentication);
+        return currentUserId != null && eventRepository.findById(eventId)
+                .map(event -> event.getOrganizer() != null && currentUserId.equals(event.getOrganizer().getId()))
+                .orElse(false);
+    }
+
+    // Same for a recurring series (EventSeriesController)
+    public boolean isOrganizerOfSeries(Long seriesId, Authentication authentication) {
+        Long currentUserId = currentUserId(authentication);
+        return currentUserId != null && eventSeriesRepository.findOrganizerIdById(seriesId)
+                .map(currentUserId::equals)
+                .orElse(false);
+    }
+
+    // Id of the authenticated user; the JWT filter sets a UserDetailsImpl, other setups may
+    // only carry the username. Null when there is no usable principal.
+    private Long currentUserId(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof UserDetailsImpl userDetails) {
+            return userDetails.getId();
+        }
+        if (principal instanceof String username) {
+            return userRepository.findByUsername(username).map(User::getId).orElse(null);
+        }
+        return null;
+    }
 }
\ No newline at end of file
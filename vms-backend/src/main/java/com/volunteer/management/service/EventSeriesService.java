@@ -0,0 +1,170 @@
+package com.volunteer.management.service;
+
+import com.volunteer.management.dto.EventDto;
+import com.volunteer.management.dto.EventOccurrenceDto;
+import com.volunteer.management.dto.EventSeriesDto;
+import com.volunteer.management.dto.RegistrationResultDto;
+import com.volunteer.management.entity.Event;
+import com.volunteer.management.entity.EventSeries;
+import com.volunteer.management.entity.User;
+import com.volunteer.management.exception.ApiException;
+import com.volunteer.management.exception.ResourceNotFoundException;
+import com.volunteer.management.repository.EventRepository;
+import com.volunteer.management.repository.EventSeriesRepository;
+import com.volunteer.management.util.RecurrenceRule;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recurring events. A series stores one row and its recurrence rule; occurrences are expanded
+ * from the rule for the requested window only, so listing a year of a weekly shift reads one
+ * series row plus the few occurrences that already exist as events.
+ *
+ * An occurrence is materialized as an Event (seriesId + occurrenceStart) the first time
+ * someone registers for it or an organizer edits it. From then on it is an ordinary event:
+ * registrations, waitlist, ETags and edits all go through the existing event code.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class EventSeriesService {
+
+    private static final Logger log = LoggerFactory.getLogger(EventSeriesService.class);
+
+    public static final int DEFAULT_WINDOW_DAYS = 31;
+    public static final int MAX_WINDOW_DAYS = 366;
+
+    private final EventSeriesRepository eventSeriesRepository;
+    private final EventRepository eventRepository;
+    private final EventService eventService;
+    private final RegistrationService registrationService;
+
+    public EventSeriesDto createSeries(EventSeriesDto dto, User organizer) {
+        EventSeries series = new EventSeries();
+        series.setName(dto.getName());
+        series.setDescription(dto.getDescription());
+        series.setLocation(dto.getLocation());
+        series.setFirstStart(dto.getFirstStart().truncatedTo(ChronoUnit.SECONDS));
+        series.setDurationMinutes(dto.getDurationMinutes());
+        series.setRecurrenceRule(parseRule(dto.getRecurrenceRule()).format());
+        series.setSlotsAvailable(dto.getSlotsAvailable());
+        series.setOrganizer(organizer);
+        EventSeries saved = eventSeriesRepository.save(series);
+        log.info("Event series {} ({}) created", saved.getId(), saved.getRecurrenceRule());
+        return mapToDto(saved);
+    }
+
+    @Transactional(readOnly = true)
+    public EventSeriesDto getSeries(Long id) {
+        return mapToDto(findSeries(id));
+    }
+
+    /**
+     * Occurrences whose scheduled start lies in [from, to), in order. Defaults to the next
+     * DEFAULT_WINDOW_DAYS days; windows are capped at MAX_WINDOW_DAYS. Materialized occurrences
+     * show their event's current times and counts.
+     */
+    @Transactional(readOnly = true)
+    public List<EventOccurrenceDto> getOccurrences(Long id, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime windowStart = from != null ? from : LocalDate.now().atStartOfDay();
+        LocalDateTime windowEnd = to != null ? to : windowStart.plusDays(DEFAULT_WINDOW_DAYS);
+        if (!windowEnd.isAfter(windowStart)) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "'to' must be after 'from'.");
+        }
+        if (windowEnd.isAfter(windowStart.plusDays(MAX_WINDOW_DAYS))) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "The window can span at most " + MAX_WINDOW_DAYS + " days.");
+        }
+        EventSeries series = findSeries(id);
+        List<RecurrenceRule.Occurrence> scheduled = parseRule(series.getRecurrenceRule())
+                .between(series.getFirstStart(), windowStart, windowEnd, Integer.MAX_VALUE);
+
+        Map<LocalDateTime, Event> materialized = new HashMap<>();
+        for (Event event : eventRepository.findOccurrences(id, windowStart, windowEnd)) {
+            materialized.put(event.getOccurrenceStart(), event);
+        }
+        List<EventOccurrenceDto> occurrences = new ArrayList<>(scheduled.size());
+        for (RecurrenceRule.Occurrence occurrence : scheduled) {
+            Event event = materialized.get(occurrence.start());
+            occurrences.add(event != null
+                    ? new EventOccurrenceDto(id, occurrence.start(), event.getId(), event.getName(), event.getLocation(),
+                            event.getStartDateTime(), event.getEndDateTime(), event.getSlotsAvailable(),
+                            event.getRegisteredCount(), true)
+                    : new EventOccurrenceDto(id, occurrence.start(), null, series.getName(), series.getLocation(),
+                            occurrence.start(), occurrence.start().plusMinutes(series.getDurationMinutes()),
+                            series.getSlotsAvailable(), 0, false));
+        }
+        return occurrences;
+    }
+
+    /**
+     * Id of the event standing for this occurrence, creating it from the series if needed.
+     * Safe to call concurrently for the same occurrence: the insert is a no-op for all but
+     * one caller (uk_events_series_occurrence) and everyone reads back the same id.
+     */
+    public Long materialize(Long seriesId, LocalDateTime occurrenceStart) {
+        EventSeries series = findSeries(seriesId);
+        if (!parseRule(series.getRecurrenceRule()).isOccurrence(series.getFirstStart(), occurrenceStart)) {
+            throw new ResourceNotFoundException("Occurrence of series " + seriesId, "start", occurrenceStart);
+        }
+        return eventRepository.findIdBySeriesIdAndOccurrenceStart(seriesId, occurrenceStart).orElseGet(() -> {
+            if (eventRepository.insertOccurrence(seriesId, occurrenceStart,
+                    occurrenceStart.plusMinutes(series.getDurationMinutes())) > 0) {
+                log.debug("Materialized occurrence {} of series {}", occurrenceStart, seriesId);
+            }
+            return eventRepository.findIdBySeriesIdAndOccurrenceStart(seriesId, occurrenceStart)
+                    .orElseThrow(() -> new IllegalStateException("Occurrence " + occurrenceStart
+                            + " of series " + seriesId + " was not materialized"));
+        });
+    }
+
+    // Edits one occurrence only; the series and its other occurrences are unchanged
+    public EventDto updateOccurrence(Long seriesId, LocalDateTime occurrenceStart, EventDto eventDto) {
+        return eventService.updateEvent(materialize(seriesId, occurrenceStart), eventDto);
+    }
+
+    public RegistrationResultDto registerForOccurrence(Long seriesId, LocalDateTime occurrenceStart, Long currentUserId) {
+        return registrationService.registerCurrentUserForEvent(materialize(seriesId, occurrenceStart), currentUserId);
+    }
+
+    private EventSeries findSeries(Long id) {
+        return eventSeriesRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Event series", "id", id));
+    }
+
+    private static RecurrenceRule parseRule(String rule) {
+        try {
+            return RecurrenceRule.parse(rule);
+        } catch (IllegalArgumentException ex) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "Invalid recurrence rule: " + ex.getMessage());
+        }
+    }
+
+    private static EventSeriesDto mapToDto(EventSeries series) {
+        EventSeriesDto dto = new EventSeriesDto();
+        dto.setId(series.getId());
+        dto.setName(series.getName());
+        dto.setDescription(series.getDescription());
+        dto.setLocation(series.getLocation());
+        dto.setFirstStart(series.getFirstStart());
+        dto.setDurationMinutes(series.getDurationMinutes());
+        dto.setRecurrenceRule(series.getRecurrenceRule());
+        dto.setSlotsAvailable(series.getSlotsAvailable());
+        if (series.getOrganizer() != null) {
+            dto.setOrganizerId(series.getOrganizer().getId());
+            dto.setOrganizerName(series.getOrganizer().getName());
+        }
+        return dto;
+    }
+}
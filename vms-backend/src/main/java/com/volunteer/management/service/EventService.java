@@ -1,6 +1,13 @@
 package com.volunteer.management.service;
 
+import com.volunteer.management.dto.CursorPageDto;
+import com.volunteer.management.dto.EventCursor;
 import com.volunteer.management.dto.EventDto;
+import com.volunteer.management.dto.EventFilter;
+import com.volunteer.management.dto.EventOrganizerSummary;
+import com.volunteer.management.dto.EventOverviewDto;
+import com.volunteer.management.dto.EventVersion;
+import com.volunteer.management.dto.EventVolunteerSummary;
 import com.volunteer.management.dto.VolunteerSummaryDto;
 import com.volunteer.management.entity.Event;
 import com.volunteer.management.entity.User;
@@ -8,19 +15,32 @@ import com.volunteer.management.entity.Volunteer;
 import com.volunteer.management.exception.ApiException;
 import com.volunteer.management.exception.ResourceNotFoundException;
 import com.volunteer.management.repository.EventRepository;
+import com.volunteer.management.repository.EventSpecifications;
 import com.volunteer.management.repository.VolunteerRepository;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,9 +50,15 @@ public class EventService {
 
     private final EventRepository eventRepository;
     private final VolunteerRepository volunteerRepository; // Needed for assignments
+    private final SlotReservationService slotReservationService;
+    private final WaitlistService waitlistService;
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    private static final Sort KEYSET_ORDER = Sort.by("startDateTime").ascending().and(Sort.by("id").ascending());
 
     // --- Mappers (Consider MapStruct later) ---
-    private EventDto mapToDto(Event event) {
+    private EventDto mapScalarFields(Event event) {
         EventDto dto = new EventDto();
         dto.setId(event.getId());
         dto.setName(event.getName());
@@ -41,6 +67,14 @@ public class EventService {
         dto.setStartDateTime(event.getStartDateTime());
         dto.setEndDateTime(event.getEndDateTime());
         dto.setSlotsAvailable(event.getSlotsAvailable());
+        return dto;
+    }
+
+    // Maps a single event by walking its (lazy) associations. Use it for events that were
+    // just modified in this session; read paths go through mapToDtos instead.
+    // Package-private for EventDtoBenchmark.
+    EventDto mapToDto(Event event) {
+        EventDto dto = mapScalarFields(event);
         // Map assigned volunteer IDs
         if (event.getAssignedVolunteers() != null) {
             // Map assigned volunteers to VolunteerSummaryDto objects
@@ -85,6 +119,35 @@ public class EventService {
 
 
 
+    // Batch mapper for read paths. Volunteers (with their user's name/email) and organizers
+    // for the whole batch are read with two projection queries, so the statement count stays
+    // the same no matter how many events or volunteers are involved.
+    private List<EventDto> mapToDtos(List<Event> events) {
+        if (events.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> eventIds = events.stream().map(Event::getId).collect(Collectors.toList());
+
+        Map<Long, Set<VolunteerSummaryDto>> volunteersByEvent = eventRepository.findVolunteerSummariesByEventIds(eventIds)
+                .stream()
+                .collect(Collectors.groupingBy(EventVolunteerSummary::eventId,
+                        Collectors.mapping(EventVolunteerSummary::toSummaryDto, Collectors.toSet())));
+        Map<Long, EventOrganizerSummary> organizersByEvent = eventRepository.findOrganizerSummariesByEventIds(eventIds)
+                .stream()
+                .collect(Collectors.toMap(EventOrganizerSummary::eventId, Function.identity()));
+
+        return events.stream().map(event -> {
+            EventDto dto = mapScalarFields(event);
+            dto.setAssignedVolunteers(volunteersByEvent.getOrDefault(event.getId(), new HashSet<>()));
+            EventOrganizerSummary organizer = organizersByEvent.get(event.getId());
+            if (organizer != null) {
+                dto.setOrganizerId(organizer.organizerId());
+                dto.setOrganizerName(organizer.organizerName());
+            }
+            return dto;
+        }).collect(Collectors.toList());
+    }
+
 private VolunteerSummaryDto mapVolunteerToSummaryDto(Volunteer volunteer) {
         if (volunteer == null) {
             return null;
@@ -137,14 +200,115 @@ private VolunteerSummaryDto mapVolunteerToSummaryDto(Volunteer volunteer) {
     }
     // --- End Mappers ---
 
-    public List<EventDto> getAllEvents() {
-        return eventRepository.findAll().stream().map(this::mapToDto).collect(Collectors.toList());
+    /**
+     * Keyset-paginated event listing ordered by (startDateTime, id).
+     * Fetches one extra row to know whether another page exists, so memory per
+     * request is bounded by the page size rather than the table size.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<EventDto> getEvents(EventFilter filter, String cursor, int size) {
+        int pageSize = clampPageSize(size);
+        List<Event> rows = eventRepository.findBy(listingSpec(filter, cursor),
+                q -> q.sortBy(KEYSET_ORDER).limit(pageSize + 1).all());
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Event> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            Event last = page.get(page.size() - 1);
+            nextCursor = new EventCursor(last.getStartDateTime(), last.getId()).encode();
+        }
+        return new CursorPageDto<>(mapToDtos(page), nextCursor, hasMore);
+    }
+
+    /**
+     * Same listing and cursor as getEvents, but as overview rows read in a single
+     * projection query: no volunteers, users or organizer are touched.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<EventOverviewDto> getEventOverviews(EventFilter filter, String cursor, int size) {
+        int pageSize = clampPageSize(size);
+        List<EventOverviewDto> rows = eventRepository.findOverviews(listingSpec(filter, cursor), pageSize + 1);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<EventOverviewDto> page = hasMore ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            EventOverviewDto last = page.get(page.size() - 1);
+            nextCursor = new EventCursor(last.startDateTime(), last.id()).encode();
+        }
+        return new CursorPageDto<>(page, nextCursor, hasMore);
+    }
+
+    /**
+     * Strong ETag and Last-Modified for an event or a listing page, read with one small
+     * projection query so a conditional GET can answer 304 before any DTO is built.
+     * lastModified is epoch millis, or -1 when there is nothing to date (an empty page).
+     */
+    public record Validator(String eTag, long lastModified) {
+
+        private static long millis(LocalDateTime time) {
+            return time == null ? -1 : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Validator getEventValidator(Long id) {
+        EventVersion version = eventRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", id));
+        return new Validator("\"" + version.id() + "-" + version.version() + "\"", Validator.millis(version.updatedAt()));
+    }
+
+    // Covers exactly the rows (including the look-ahead row behind hasMore) that getEvents or
+    // getEventOverviews would return for the same arguments, so changes elsewhere don't invalidate it
+    @Transactional(readOnly = true)
+    public Validator getListingValidator(String view, EventFilter filter, String cursor, int size) {
+        int pageSize = clampPageSize(size);
+        List<EventVersion> rows = eventRepository.findVersions(listingSpec(filter, cursor), pageSize + 1);
+
+        // Same rule as EventController: anything but "summary" is the full view
+        String representation = "summary".equalsIgnoreCase(view) ? "summary" : "full";
+        StringBuilder key = new StringBuilder(representation).append(':').append(pageSize);
+        LocalDateTime lastModified = null;
+        for (EventVersion row : rows) {
+            key.append(',').append(row.id()).append('-').append(row.version());
+            if (lastModified == null || row.updatedAt().isAfter(lastModified)) {
+                lastModified = row.updatedAt();
+            }
+        }
+        String hash = DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8));
+        return new Validator("\"" + hash + "\"", Validator.millis(lastModified));
+    }
+
+    private int clampPageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    private Specification<Event> listingSpec(EventFilter filter, String cursor) {
+        List<Specification<Event>> specs = new ArrayList<>();
+        if (filter.getFrom() != null) {
+            specs.add(EventSpecifications.startsAtOrAfter(filter.getFrom()));
+        }
+        if (filter.getTo() != null) {
+            specs.add(EventSpecifications.startsBefore(filter.getTo()));
+        }
+        if (StringUtils.hasText(filter.getLocation())) {
+            specs.add(EventSpecifications.locationStartsWith(filter.getLocation()));
+        }
+        if (filter.isHasFreeSlots()) {
+            specs.add(EventSpecifications.hasFreeSlots());
+        }
+        if (StringUtils.hasText(cursor)) {
+            specs.add(EventSpecifications.after(EventCursor.decode(cursor)));
+        }
+        return Specification.allOf(specs);
     }
 
+    @Transactional(readOnly = true)
     public EventDto getEventById(Long id) {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Event", "id", id));
-        return mapToDto(event);
+        return mapToDtos(List.of(event)).get(0);
     }
 
     public EventDto createEvent(EventDto eventDto, User organizer) { // Accept User object
@@ -245,54 +409,66 @@ private VolunteerSummaryDto mapVolunteerToSummaryDto(Volunteer volunteer) {
         existingEvent.setLocation(eventDto.getLocation());
         existingEvent.setStartDateTime(eventDto.getStartDateTime());
         existingEvent.setEndDateTime(eventDto.getEndDateTime());
+        Integer previousSlots = existingEvent.getSlotsAvailable();
         existingEvent.setSlotsAvailable(eventDto.getSlotsAvailable());
         // Optional: Handle volunteer assignments if needed
         // Optional: Handle roles if needed
 
 
-        Event updatedEvent = eventRepository.save(existingEvent);
-        return mapToDto(updatedEvent);
+        Event updatedEvent = eventRepository.saveAndFlush(existingEvent);
+        eventRepository.touch(id);
+        if (capacityIncreased(previousSlots, updatedEvent.getSlotsAvailable())) {
+            waitlistService.promote(id);
+        }
+        return mapToDtos(List.of(updatedEvent)).get(0);
     }
 
     public void deleteEvent(Long id) {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Event", "id", id));
         // Consider handling related data (e.g., unassign volunteers) before deleting if necessary
+        waitlistService.clear(id);
         eventRepository.delete(event);
     }
 
-    // --- Volunteer Assignment Logic (Example) ---
+    // null means unlimited
+    private static boolean capacityIncreased(Integer before, Integer after) {
+        if (after == null) {
+            return before != null;
+        }
+        return before != null && after > before;
+    }
+
+    // --- Volunteer Assignment Logic ---
+    // Both go through SlotReservationService so organizer assignments and self-registration
+    // share the same atomic capacity check.
     @Transactional
     public EventDto assignVolunteerToEvent(Long eventId, Long volunteerId) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
-        Volunteer volunteer = volunteerRepository.findById(volunteerId)
-                 .orElseThrow(() -> new ResourceNotFoundException("Volunteer", "id", volunteerId));
-
-        // Optional: Check if slots are available
-        if (event.getSlotsAvailable() != null && event.getAssignedVolunteers().size() >= event.getSlotsAvailable()) {
-            throw new ApiException(HttpStatus.BAD_REQUEST, "No more slots available for this event.");
+        if (!volunteerRepository.existsById(volunteerId)) {
+            throw new ResourceNotFoundException("Volunteer", "id", volunteerId);
         }
 
-        event.getAssignedVolunteers().add(volunteer);
-        // volunteer.getAssignedEvents().add(event); // Managed by the owning side (Event)
-
-        eventRepository.save(event);
-        return mapToDto(event);
+        switch (slotReservationService.reserve(eventId, volunteerId)) {
+            case FULL -> throw new ApiException(HttpStatus.BAD_REQUEST, "No more slots available for this event.");
+            case ALREADY_REGISTERED, RESERVED -> { } // assigning twice is a no-op, as it was with the Set
+        }
+        return mapToDtos(List.of(event)).get(0);
     }
 
      @Transactional
     public EventDto unassignVolunteerFromEvent(Long eventId, Long volunteerId) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
-        Volunteer volunteer = volunteerRepository.findById(volunteerId)
-                 .orElseThrow(() -> new ResourceNotFoundException("Volunteer", "id", volunteerId));
-
-        event.getAssignedVolunteers().remove(volunteer);
-        // volunteer.getAssignedEvents().remove(event);
+        if (!volunteerRepository.existsById(volunteerId)) {
+            throw new ResourceNotFoundException("Volunteer", "id", volunteerId);
+        }
 
-        eventRepository.save(event);
-        return mapToDto(event);
+        if (slotReservationService.release(eventId, volunteerId)) {
+            waitlistService.promote(eventId); // hand the freed slot to the head of the waitlist
+        }
+        return mapToDtos(List.of(event)).get(0);
     }
     // Inside EventService
 public List<EventDto> getEventsOrganizedByCurrentUser(User currentUser) {
@@ -300,12 +476,12 @@ public List<EventDto> getEventsOrganizedByCurrentUser(User currentUser) {
     // List<Event> events = eventRepository.findByOrganizerId(currentUser.getId()); // If you add such a query method
     // Or leverage the relationship if mapped correctly (may need adjustments in User entity)
      List<Event> events = eventRepository.findByOrganizer(currentUser); // Simpler if relationship setup allows
-    return events.stream().map(this::mapToDto).collect(Collectors.toList());
+    return mapToDtos(events);
 }
 
 // Or with pagination
  public Page<EventDto> getEventsOrganizedByCurrentUser(User currentUser, Pageable pageable) {
      Page<Event> eventsPage = eventRepository.findByOrganizer(currentUser, pageable);
-     return eventsPage.map(this::mapToDto); // map Page content using the DTO mapper
+     return new PageImpl<>(mapToDtos(eventsPage.getContent()), eventsPage.getPageable(), eventsPage.getTotalElements());
  }
 }
\ No newline at end of file
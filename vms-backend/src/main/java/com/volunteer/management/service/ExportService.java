@@ -0,0 +1,175 @@
+package com.volunteer.management.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.volunteer.management.dto.EventExportRow;
+import com.volunteer.management.dto.VolunteerExportRow;
+import com.volunteer.management.exception.ApiException;
+import com.volunteer.management.repository.EventRepository;
+import com.volunteer.management.repository.VolunteerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Streams whole tables to an OutputStream as NDJSON or CSV for admin exports.
+ *
+ * Rows come from Stream-returning projection queries with a JDBC fetch size, and each row
+ * is written as soon as it is read, so heap use does not grow with the table: nothing is
+ * collected and no entity enters the persistence context. The servlet output buffer is
+ * flushed to the client whenever it fills.
+ *
+ * The export holds a database connection and cursor for as long as it runs. A client that
+ * reads too slowly is cut off once app.export.max-duration has passed: the IOException
+ * ends the transaction, which closes the cursor, and the truncated response is never
+ * terminated properly, so the client can tell it is incomplete.
+ */
+@Service
+public class ExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportService.class);
+
+    public enum Format {
+        NDJSON("application/x-ndjson"),
+        CSV("text/csv");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String fileExtension() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        public static Format parse(String value) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new ApiException(HttpStatus.BAD_REQUEST, "Unsupported export format '" + value + "', use ndjson or csv.");
+        }
+    }
+
+    private final VolunteerRepository volunteerRepository;
+    private final EventRepository eventRepository;
+    private final ObjectMapper objectMapper;
+    private final Duration maxDuration;
+
+    public ExportService(VolunteerRepository volunteerRepository, EventRepository eventRepository,
+                         ObjectMapper objectMapper,
+                         @Value("${app.export.max-duration:10m}") Duration maxDuration) {
+        this.volunteerRepository = volunteerRepository;
+        this.eventRepository = eventRepository;
+        this.objectMapper = objectMapper;
+        this.maxDuration = maxDuration;
+    }
+
+    // Both return the number of rows written
+    @Transactional(readOnly = true)
+    public long exportVolunteers(Format format, OutputStream out) throws IOException {
+        try (Stream<VolunteerExportRow> rows = volunteerRepository.streamExportRows()) {
+            return write("volunteers", VolunteerExportRow.class, rows, format, out);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long exportEvents(Format format, OutputStream out) throws IOException {
+        try (Stream<EventExportRow> rows = eventRepository.streamExportRows()) {
+            return write("events", EventExportRow.class, rows, format, out);
+        }
+    }
+
+    private <T extends Record> long write(String name, Class<T> type, Stream<T> rows, Format format, OutputStream out)
+            throws IOException {
+        RecordComponent[] columns = type.getRecordComponents();
+        ObjectWriter json = objectMapper.writerFor(type);
+        if (format == Format.CSV) {
+            StringBuilder header = new StringBuilder();
+            for (int i = 0; i < columns.length; i++) {
+                appendCsvField(header, i, columns[i].getName());
+            }
+            writeLine(out, header);
+        }
+
+        long deadline = System.nanoTime() + maxDuration.toNanos();
+        long count = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            // Checked before every row: a blocked write only returns once the client reads again
+            if (System.nanoTime() - deadline > 0) {
+                log.warn("Aborting {} export after {} rows: exceeded {}", name, count, maxDuration);
+                throw new IOException("Export of " + name + " exceeded " + maxDuration + " after " + count + " rows");
+            }
+            T row = iterator.next();
+            if (format == Format.CSV) {
+                StringBuilder line = new StringBuilder();
+                for (int i = 0; i < columns.length; i++) {
+                    Object value = read(columns[i], row);
+                    appendCsvField(line, i, value == null ? "" : value instanceof String text ? neutralizeFormula(text) : value.toString());
+                }
+                writeLine(out, line);
+            } else {
+                out.write(json.writeValueAsBytes(row));
+                out.write('\n');
+            }
+            count++;
+        }
+        out.flush();
+        log.debug("Exported {} {} rows as {}", count, name, format);
+        return count;
+    }
+
+    private static Object read(RecordComponent column, Object row) {
+        try {
+            return column.getAccessor().invoke(row);
+        } catch (IllegalAccessException | InvocationTargetException ex) {
+            throw new IllegalStateException("Cannot read " + column.getName(), ex);
+        }
+    }
+
+    // Spreadsheets evaluate a cell starting with one of these as a formula (CSV injection), so
+    // user-entered text gets a leading apostrophe and is quoted; numbers and dates are never text
+    private static String neutralizeFormula(String value) {
+        if (value.isEmpty() || "=+-@\t\r".indexOf(value.charAt(0)) < 0) {
+            return value;
+        }
+        return "'" + value;
+    }
+
+    // RFC 4180: quote fields containing a separator, quote or line break, doubling inner quotes
+    private static void appendCsvField(StringBuilder line, int index, String value) {
+        if (index > 0) {
+            line.append(',');
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0
+                || value.startsWith("'")) {
+            line.append('"').append(value.replace("\"", "\"\"")).append('"');
+        } else {
+            line.append(value);
+        }
+    }
+
+    private static void writeLine(OutputStream out, StringBuilder line) throws IOException {
+        out.write(line.append("\r\n").toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
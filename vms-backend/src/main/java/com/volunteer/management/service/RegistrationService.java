@@ -1,14 +1,13 @@
 // src/main/java/com/volunteer/management/service/RegistrationService.java
 package com.volunteer.management.service;
 
+import com.volunteer.management.dto.RegistrationResultDto;
 import com.volunteer.management.entity.Event;
-import com.volunteer.management.entity.User;
 import com.volunteer.management.entity.Volunteer;
 import com.volunteer.management.exception.ActionForbiddenException;
 import com.volunteer.management.exception.RegistrationException;
 import com.volunteer.management.exception.ResourceNotFoundException;
 import com.volunteer.management.repository.EventRepository;
-import com.volunteer.management.repository.UserRepository;
 import com.volunteer.management.repository.VolunteerRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -28,55 +27,51 @@ public class RegistrationService {
     private static final Logger log = LoggerFactory.getLogger(RegistrationService.class);
 
     private final EventRepository eventRepository;
-    private final UserRepository userRepository; // To find the user
     private final VolunteerRepository volunteerRepository; // To find the volunteer profile
+    private final SlotReservationService slotReservationService;
+    private final WaitlistService waitlistService;
 
     @Transactional // Ensure atomicity
-    public Event registerCurrentUserForEvent(Long eventId, Long currentUserId) {
-        log.info("Attempting registration for event ID {} by user ID {}", eventId, currentUserId);
+    public RegistrationResultDto registerCurrentUserForEvent(Long eventId, Long currentUserId) {
+        log.debug("Attempting registration for event ID {} by user ID {}", eventId, currentUserId);
 
-        // 1. Find the current User
-        // We find the user first, assuming they must exist if authenticated
-        User currentUser = userRepository.findById(currentUserId)
-                .orElseThrow(() -> new ResourceNotFoundException("Authenticated user not found with ID: " + currentUserId, null));
-
-        // 2. Find the associated Volunteer profile
-        // Assuming a method like findByUser exists or similar logic
+        // 1. Find the associated Volunteer profile (the user is already authenticated)
         Volunteer currentVolunteer = volunteerRepository.findByUserId(currentUserId)
                 .orElseThrow(() -> new ActionForbiddenException("No volunteer profile found for user ID: " + currentUserId + ". Cannot register for events."));
 
-        // 3. Find the Event
+        // 2. Find the Event (row only; the volunteer roster is never loaded)
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found with ID: " + eventId, null));
 
-        // 4. Validation Checks
-        // Check if already registered
-        if (event.getAssignedVolunteers().contains(currentVolunteer)) {
-            log.warn("User ID {} (Volunteer ID {}) already registered for event ID {}", currentUserId, currentVolunteer.getId(), eventId);
-            throw new RegistrationException("You are already registered for this event: " + event.getName());
-        }
-
-        // Check if slots are available
-        Integer slots = event.getSlotsAvailable();
-        if (slots != null && event.getAssignedVolunteers().size() >= slots) {
-            log.warn("No slots available for event ID {} ({} available, {} registered)", eventId, slots, event.getAssignedVolunteers().size());
-            throw new RegistrationException("Sorry, no more slots available for this event: " + event.getName());
-        }
-
         // Prevent organizer from registering as a volunteer for their own event? (Optional check)
         // if (event.getOrganizer().getId().equals(currentUserId)) {
         //     log.warn("Organizer (User ID {}) cannot register as volunteer for their own event (ID {})", currentUserId, eventId);
         //     throw new RegistrationException("Organizers cannot register as volunteers for their own events.");
         // }
 
-        // 5. Perform Registration
-        event.getAssignedVolunteers().add(currentVolunteer);
-
-        // 6. Save the updated Event (cascades the JoinTable update)
-        Event savedEvent = eventRepository.save(event);
-        log.info("Successfully registered volunteer ID {} for event ID {}", currentVolunteer.getId(), eventId);
-
-        return savedEvent; // Return the updated event (or a DTO representation)
+        // 3. Reserve a slot atomically; duplicate and capacity checks happen in the database.
+        //    A full event puts the volunteer on its waitlist.
+        switch (slotReservationService.reserve(eventId, currentVolunteer.getId())) {
+            case ALREADY_REGISTERED -> {
+                log.warn("User ID {} (Volunteer ID {}) already registered for event ID {}", currentUserId, currentVolunteer.getId(), eventId);
+                throw new RegistrationException("You are already registered for this event: " + event.getName());
+            }
+            case FULL -> {
+                // Queue instead of rejecting, so clients don't retry in a loop
+                long position = waitlistService.enqueue(eventId, currentVolunteer.getId());
+                if (position == 0) {
+                    log.info("Slot freed up for volunteer ID {} on event ID {} while queueing", currentVolunteer.getId(), eventId);
+                    return RegistrationResultDto.registered(eventId);
+                }
+                log.info("Event ID {} is full; volunteer ID {} is number {} on the waitlist", eventId, currentVolunteer.getId(), position);
+                return RegistrationResultDto.waitlisted(eventId, position);
+            }
+            case RESERVED -> {
+                log.info("Successfully registered volunteer ID {} for event ID {}", currentVolunteer.getId(), eventId);
+                return RegistrationResultDto.registered(eventId);
+            }
+            default -> throw new IllegalStateException("Unexpected reservation result");
+        }
     }
 
     @Transactional(readOnly = true) // Read-only transaction is efficient
@@ -0,0 +1,71 @@
+package com.volunteer.management.service;
+
+import com.volunteer.management.exception.ResourceNotFoundException;
+import com.volunteer.management.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Reserves and releases event slots without loading the volunteer roster.
+ *
+ * A reservation runs in the caller's transaction: lock the event row, insert the
+ * event_volunteers row (a no-op if it already exists), then bump
+ * events.registered_count only if it is still below slots_available. The event
+ * row lock makes the check-and-increment atomic, so concurrent registrants can
+ * never push the count past capacity. If the increment fails, the join row that
+ * was just inserted is deleted again.
+ *
+ * Every roster change takes the event row lock before touching event_volunteers
+ * (here, EventAssignmentService and WaitlistService alike), so concurrent changes
+ * to one event queue on that lock instead of deadlocking on each other's rows.
+ *
+ * These statements bypass Hibernate, so each successful change evicts the
+ * event's second-level cache entries once the transaction commits.
+ */
+@Service
+@RequiredArgsConstructor
+public class SlotReservationService {
+
+    private static final Logger log = LoggerFactory.getLogger(SlotReservationService.class);
+
+    public enum Result { RESERVED, ALREADY_REGISTERED, FULL }
+
+    private final EventRepository eventRepository;
+    private final EntityCacheEvictor cacheEvictor;
+
+    @Transactional
+    public Result reserve(Long eventId, Long volunteerId) {
+        lockEvent(eventId);
+        if (eventRepository.insertAssignment(eventId, volunteerId) == 0) {
+            return Result.ALREADY_REGISTERED;
+        }
+        if (eventRepository.incrementRegisteredCountIfCapacity(eventId) == 0) {
+            log.debug("Event ID {} is full, rejecting volunteer ID {}", eventId, volunteerId);
+            eventRepository.deleteAssignment(eventId, volunteerId);
+            return Result.FULL;
+        }
+        cacheEvictor.evictEvent(eventId);
+        return Result.RESERVED;
+    }
+
+    // Returns false if the volunteer wasn't assigned to the event
+    @Transactional
+    public boolean release(Long eventId, Long volunteerId) {
+        lockEvent(eventId);
+        if (eventRepository.deleteAssignment(eventId, volunteerId) == 0) {
+            return false;
+        }
+        eventRepository.decrementRegisteredCount(eventId);
+        cacheEvictor.evictEvent(eventId);
+        return true;
+    }
+
+    private void lockEvent(Long eventId) {
+        if (eventRepository.lockRegisteredCount(eventId).isEmpty()) {
+            throw new ResourceNotFoundException("Event", "id", eventId);
+        }
+    }
+}
@@ -4,22 +4,35 @@ package com.volunteer.management.service;
 import com.volunteer.management.dto.UserProfileUpdateDto;
 import com.volunteer.management.entity.User;
 import com.volunteer.management.exception.EmailAlreadyExistsException;
+import com.volunteer.management.repository.EventRepository;
 import com.volunteer.management.repository.UserRepository;
+import com.volunteer.management.security.services.TokenRevocationService;
+import com.volunteer.management.security.services.UserAccountChangedEvent;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import jakarta.validation.Valid;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Objects; // Import for Objects.equals
 
 @Service
 public class UserService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EventRepository eventRepository;
+    private final TokenRevocationService tokenRevocationService;
 
     @Autowired
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, ApplicationEventPublisher eventPublisher,
+                       EventRepository eventRepository, TokenRevocationService tokenRevocationService) {
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.eventRepository = eventRepository;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     // Find by username (used for getting current profile via Authentication)
@@ -32,6 +45,8 @@ public class UserService {
     @Transactional
     public User updateUserProfile(String currentUsername, @Valid UserProfileUpdateDto updateDto) {
         User userToUpdate = findUserByUsername(currentUsername);
+        String previousEmail = userToUpdate.getEmail();
+        String previousName = userToUpdate.getName();
 
         // --- Handle Potential Email Change ---
         // Check if email in DTO is different from current email *and* if it already exists
@@ -49,7 +64,22 @@ public class UserService {
         userToUpdate.setName(updateDto.getName());
 
         // Save the updated user entity
-        return userRepository.save(userToUpdate);
+        User savedUser = userRepository.save(userToUpdate);
+
+        // Name and email appear on events this user organizes or volunteers for
+        if (!Objects.equals(previousName, savedUser.getName()) || !Objects.equals(previousEmail, savedUser.getEmail())) {
+            eventRepository.touchEventsOfUser(savedUser.getId());
+        }
+
+        // Cached UserDetails are keyed by username and email; drop them once this commits.
+        // Issued tokens carry the old email as a claim, so they are revoked too; doing it here
+        // means a full revocation store (503) rolls the change back instead of leaving them valid.
+        if (!Objects.equals(previousEmail, savedUser.getEmail())) {
+            tokenRevocationService.revokeAllForUser(savedUser.getId());
+            eventPublisher.publishEvent(new UserAccountChangedEvent(savedUser.getId(),
+                    new HashSet<>(Arrays.asList(savedUser.getUsername(), previousEmail, savedUser.getEmail()))));
+        }
+        return savedUser;
     }
 
 
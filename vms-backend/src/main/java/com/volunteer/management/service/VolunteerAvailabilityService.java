@@ -0,0 +1,205 @@
+package com.volunteer.management.service;
+
+import com.volunteer.management.dto.CursorPageDto;
+import com.volunteer.management.dto.VolunteerSummaryDto;
+import com.volunteer.management.entity.AvailabilitySlot;
+import com.volunteer.management.entity.Event;
+import com.volunteer.management.entity.Volunteer;
+import com.volunteer.management.exception.ApiException;
+import com.volunteer.management.exception.ResourceNotFoundException;
+import com.volunteer.management.repository.EventRepository;
+import com.volunteer.management.repository.VolunteerRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Answers "which volunteers are free for this event" from an in-memory AvailabilityBitmap.
+ *
+ * The bitmap is built from volunteer_availability once the application is ready and then
+ * kept current per volunteer: VolunteerService calls refresh/remove, which apply the change
+ * after the transaction commits. Each node keeps its own copy, so a change made on another
+ * node shows up here after the next restart.
+ */
+@Service
+@RequiredArgsConstructor
+public class VolunteerAvailabilityService {
+
+    private static final Logger log = LoggerFactory.getLogger(VolunteerAvailabilityService.class);
+    private static final int REINDEX_BATCH_SIZE = 500;
+    private static final Comparator<AvailabilitySlot> SLOT_ORDER =
+            Comparator.comparing(AvailabilitySlot::getDayOfWeek).thenComparing(AvailabilitySlot::getStartTime);
+
+    private final VolunteerRepository volunteerRepository;
+    private final EventRepository eventRepository;
+    private volatile AvailabilityBitmap bitmap = new AvailabilityBitmap();
+
+    // Guards bitmap swaps and pendingChanges; rebuildLock keeps rebuilds from overlapping
+    private final Object changeLock = new Object();
+    private final Object rebuildLock = new Object();
+    // Changes applied while a rebuild runs (null slots = removed), replayed onto the new bitmap
+    private Map<Long, List<AvailabilitySlot>> pendingChanges;
+
+    // Built into a fresh bitmap and swapped in, so readers never see a half-built index.
+    // Changes committed while it is being built are recorded and replayed onto it before
+    // the swap; the rows read may or may not include them, and replaying is idempotent.
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            long start = System.nanoTime();
+            synchronized (changeLock) {
+                pendingChanges = new HashMap<>();
+            }
+            try {
+                AvailabilityBitmap rebuilt = load();
+                synchronized (changeLock) {
+                    pendingChanges.forEach((volunteerId, slots) -> apply(rebuilt, volunteerId, slots));
+                    bitmap = rebuilt;
+                }
+                log.info("Availability index built for {} volunteers in {} ms", rebuilt.size(), (System.nanoTime() - start) / 1_000_000);
+            } finally {
+                synchronized (changeLock) {
+                    pendingChanges = null;
+                }
+            }
+        }
+    }
+
+    private AvailabilityBitmap load() {
+        AvailabilityBitmap rebuilt = new AvailabilityBitmap();
+        try (Stream<Object[]> rows = volunteerRepository.streamAvailabilitySlots()) {
+            Long current = null;
+            List<AvailabilitySlot> slots = new ArrayList<>();
+            for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                Long volunteerId = (Long) row[0];
+                if (!volunteerId.equals(current)) {
+                    if (current != null) {
+                        rebuilt.put(current, slots);
+                    }
+                    current = volunteerId;
+                    slots = new ArrayList<>();
+                }
+                slots.add(new AvailabilitySlot((DayOfWeek) row[1], (LocalTime) row[2], (LocalTime) row[3]));
+            }
+            if (current != null) {
+                rebuilt.put(current, slots);
+            }
+        }
+        return rebuilt;
+    }
+
+    // Call after changing a volunteer's slots; the index follows once the transaction commits
+    public void refresh(Volunteer volunteer) {
+        long volunteerId = volunteer.getId();
+        List<AvailabilitySlot> slots = new ArrayList<>(volunteer.getAvailabilitySlots());
+        EntityCacheEvictor.afterCommit(() -> applyChange(volunteerId, slots));
+    }
+
+    public void remove(Long volunteerId) {
+        EntityCacheEvictor.afterCommit(() -> applyChange(volunteerId, null));
+    }
+
+    // slots null = volunteer removed
+    private void applyChange(Long volunteerId, List<AvailabilitySlot> slots) {
+        synchronized (changeLock) {
+            apply(bitmap, volunteerId, slots);
+            if (pendingChanges != null) {
+                pendingChanges.put(volunteerId, slots);
+            }
+        }
+    }
+
+    private static void apply(AvailabilityBitmap target, Long volunteerId, List<AvailabilitySlot> slots) {
+        if (slots == null) {
+            target.remove(volunteerId);
+        } else {
+            target.put(volunteerId, slots);
+        }
+    }
+
+    public static List<AvailabilitySlot> sorted(Iterable<AvailabilitySlot> slots) {
+        List<AvailabilitySlot> list = new ArrayList<>();
+        slots.forEach(list::add);
+        list.sort(SLOT_ORDER);
+        return list;
+    }
+
+    // Ids, ascending, of volunteers free for all of [start, end)
+    public long[] availableIds(LocalDateTime start, LocalDateTime end) {
+        return bitmap.availableFor(start, end);
+    }
+
+    /**
+     * Volunteers whose weekly availability covers the event's whole start-end window,
+     * ordered by id and paged by the id of the last volunteer returned (nextCursor).
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<VolunteerSummaryDto> findAvailableForEvent(Long eventId, String cursor, int size) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+        long[] ids = availableIds(event.getStartDateTime(), event.getEndDateTime());
+
+        int from = 0;
+        if (StringUtils.hasText(cursor)) {
+            long after;
+            try {
+                after = Long.parseLong(cursor);
+            } catch (NumberFormatException ex) {
+                throw new ApiException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+            }
+            int found = Arrays.binarySearch(ids, after);
+            from = found >= 0 ? found + 1 : -found - 1;
+        }
+        int pageSize = Math.min(Math.max(size, 1), EventService.MAX_PAGE_SIZE);
+        int to = Math.min(ids.length, from + pageSize);
+        List<Long> pageIds = Arrays.stream(ids, from, to).boxed().collect(Collectors.toList());
+        if (pageIds.isEmpty()) {
+            return new CursorPageDto<>(new ArrayList<>(), null, false);
+        }
+
+        Map<Long, VolunteerSummaryDto> summaries = volunteerRepository.findSummariesByIds(pageIds).stream()
+                .collect(Collectors.toMap(VolunteerSummaryDto::getId, Function.identity()));
+        List<VolunteerSummaryDto> items = pageIds.stream().map(summaries::get).filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        boolean hasMore = to < ids.length;
+        return new CursorPageDto<>(items, hasMore ? String.valueOf(ids[to - 1]) : null, hasMore);
+    }
+
+    // Same contract as VolunteerSearchService.reindexBatch, for availability text without slots
+    @Transactional
+    public Long reindexBatch(Long afterId) {
+        List<Volunteer> batch = volunteerRepository.findWithUnparsedAvailability(afterId, Limit.of(REINDEX_BATCH_SIZE));
+        for (Volunteer volunteer : batch) {
+            volunteer.reparseAvailability();
+            refresh(volunteer);
+        }
+        return batch.isEmpty() ? null : batch.get(batch.size() - 1).getId();
+    }
+
+    // For tests and the benchmark
+    AvailabilityBitmap bitmap() {
+        return bitmap;
+    }
+}
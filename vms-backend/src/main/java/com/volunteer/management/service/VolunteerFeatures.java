@@ -0,0 +1,247 @@
+package com.volunteer.management.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable per-volunteer feature vectors for recommendations, laid out as parallel arrays
+ * indexed by a volunteer's position in the sorted id array:
+ *  - skill postings: for each normalized skill, the sorted positions of volunteers who have it
+ *  - history score: log(1 + past events), scaled so the most experienced volunteer gets 1
+ *
+ * Scoring a request is one pass over those arrays with a bounded min-heap, so it never
+ * touches the database or builds an object per volunteer. Availability and conflicts are
+ * not stored here; the caller passes them in fresh, as sorted id arrays or id lists.
+ */
+final class VolunteerFeatures {
+
+    // Weights of the three positive features; they add up to 1
+    static final double SKILL_WEIGHT = 0.5;
+    static final double AVAILABILITY_WEIGHT = 0.3;
+    static final double HISTORY_WEIGHT = 0.2;
+
+    // Longest skill phrase looked for in event text, in words ("basic life support")
+    static final int MAX_SKILL_WORDS = 4;
+
+    private static final Pattern WORD_SEPARATORS = Pattern.compile("[\\s,;/|]+");
+    private static final Pattern EDGE_PUNCTUATION = Pattern.compile("^[.:!?()\\[\\]{}\"']+|[.:!?()\\[\\]{}\"']+$");
+
+    static final VolunteerFeatures EMPTY = new Builder(new long[0]).build();
+
+    record Candidate(int position, double score) {
+    }
+
+    // Heap order: the weakest candidate on top, ties going to the higher id
+    private static final Comparator<Candidate> WEAKEST_FIRST =
+            Comparator.comparingDouble(Candidate::score).thenComparing(Candidate::position, Comparator.reverseOrder());
+
+    private final long[] ids;
+    private final int[] pastEvents;
+    private final double[] historyScores;
+    private final Map<String, int[]> skillPostings;
+    private final Instant builtAt;
+
+    private VolunteerFeatures(long[] ids, int[] pastEvents, double[] historyScores, Map<String, int[]> skillPostings) {
+        this.ids = ids;
+        this.pastEvents = pastEvents;
+        this.historyScores = historyScores;
+        this.skillPostings = skillPostings;
+        this.builtAt = Instant.now();
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    Instant builtAt() {
+        return builtAt;
+    }
+
+    long id(int position) {
+        return ids[position];
+    }
+
+    int pastEvents(int position) {
+        return pastEvents[position];
+    }
+
+    // Known skills mentioned in free text, matched as whole phrases of up to MAX_SKILL_WORDS words
+    Set<String> skillsMentionedIn(String text) {
+        Set<String> found = new LinkedHashSet<>();
+        if (text == null || text.isBlank() || skillPostings.isEmpty()) {
+            return found;
+        }
+        List<String> words = new ArrayList<>();
+        for (String raw : WORD_SEPARATORS.split(text.toLowerCase(Locale.ROOT))) {
+            String word = EDGE_PUNCTUATION.matcher(raw).replaceAll("");
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        for (int from = 0; from < words.size(); from++) {
+            StringBuilder phrase = new StringBuilder();
+            for (int to = from; to < Math.min(words.size(), from + MAX_SKILL_WORDS); to++) {
+                if (to > from) {
+                    phrase.append(' ');
+                }
+                phrase.append(words.get(to));
+                String candidate = phrase.toString();
+                if (skillPostings.containsKey(candidate)) {
+                    found.add(candidate);
+                }
+            }
+        }
+        return found;
+    }
+
+    List<String> matchedSkills(int position, Collection<String> skills) {
+        List<String> matched = new ArrayList<>();
+        for (String skill : skills) {
+            int[] postings = skillPostings.get(skill);
+            if (postings != null && Arrays.binarySearch(postings, position) >= 0) {
+                matched.add(skill);
+            }
+        }
+        matched.sort(null);
+        return matched;
+    }
+
+    /**
+     * The k best-scoring volunteers, best first (ties by lower id). Volunteers in excludedIds
+     * are skipped, as is anyone scoring 0.
+     *
+     * @param skills       skills the event asks for
+     * @param availableIds ids, ascending, of volunteers whose availability covers the event
+     * @param excludedIds  ids of volunteers that must not be recommended, in any order
+     */
+    List<Candidate> topK(Collection<String> skills, long[] availableIds, Collection<Long> excludedIds, int k) {
+        int n = ids.length;
+        int[] skillHits = new int[n];
+        int requested = 0;
+        for (String skill : skills) {
+            requested++;
+            int[] postings = skillPostings.get(skill);
+            if (postings != null) {
+                for (int position : postings) {
+                    skillHits[position]++;
+                }
+            }
+        }
+        double skillUnit = requested == 0 ? 0 : SKILL_WEIGHT / requested;
+        BitSet available = positionsOf(availableIds);
+        BitSet excluded = new BitSet(n);
+        for (Long id : excludedIds) {
+            int position = Arrays.binarySearch(ids, id);
+            if (position >= 0) {
+                excluded.set(position);
+            }
+        }
+
+        PriorityQueue<Candidate> heap = new PriorityQueue<>(k + 1, WEAKEST_FIRST);
+        for (int position = 0; position < n; position++) {
+            if (excluded.get(position)) {
+                continue;
+            }
+            double score = skillHits[position] * skillUnit
+                    + (available.get(position) ? AVAILABILITY_WEIGHT : 0)
+                    + historyScores[position];
+            if (score <= 0) {
+                continue;
+            }
+            if (heap.size() < k) {
+                heap.add(new Candidate(position, score));
+            } else if (score > heap.peek().score()) {
+                // Positions ascend, so an equal score never displaces a lower id
+                heap.poll();
+                heap.add(new Candidate(position, score));
+            }
+        }
+        List<Candidate> best = new ArrayList<>(heap);
+        best.sort(WEAKEST_FIRST.reversed());
+        return best;
+    }
+
+    private BitSet positionsOf(long[] sortedIds) {
+        BitSet positions = new BitSet(ids.length);
+        int position = 0;
+        for (long id : sortedIds) {
+            while (position < ids.length && ids[position] < id) {
+                position++;
+            }
+            if (position == ids.length) {
+                break;
+            }
+            if (ids[position] == id) {
+                positions.set(position);
+            }
+        }
+        return positions;
+    }
+
+    // Collects features keyed by volunteer id; ids not passed to the constructor are ignored
+    static final class Builder {
+
+        private final long[] ids;
+        private final int[] pastEvents;
+        private final Map<String, int[]> postings = new HashMap<>();
+        private final Map<String, Integer> postingSizes = new HashMap<>();
+
+        Builder(long[] sortedIds) {
+            this.ids = sortedIds;
+            this.pastEvents = new int[sortedIds.length];
+        }
+
+        Builder skill(long volunteerId, String skill) {
+            int position = Arrays.binarySearch(ids, volunteerId);
+            if (position >= 0) {
+                int size = postingSizes.getOrDefault(skill, 0);
+                int[] list = postings.get(skill);
+                if (list == null || list.length == size) {
+                    list = list == null ? new int[4] : Arrays.copyOf(list, size * 2);
+                    postings.put(skill, list);
+                }
+                list[size] = position;
+                postingSizes.put(skill, size + 1);
+            }
+            return this;
+        }
+
+        Builder pastEvents(long volunteerId, int count) {
+            int position = Arrays.binarySearch(ids, volunteerId);
+            if (position >= 0) {
+                pastEvents[position] = count;
+            }
+            return this;
+        }
+
+        VolunteerFeatures build() {
+            Map<String, int[]> skillPostings = new HashMap<>(postings.size() * 2);
+            postings.forEach((skill, list) -> {
+                int[] sorted = Arrays.copyOf(list, postingSizes.get(skill));
+                Arrays.sort(sorted);
+                skillPostings.put(skill, sorted);
+            });
+            int maxPastEvents = Arrays.stream(pastEvents).max().orElse(0);
+            double[] historyScores = new double[ids.length];
+            if (maxPastEvents > 0) {
+                double scale = HISTORY_WEIGHT / Math.log1p(maxPastEvents);
+                for (int position = 0; position < ids.length; position++) {
+                    historyScores[position] = Math.log1p(pastEvents[position]) * scale;
+                }
+            }
+            return new VolunteerFeatures(ids, pastEvents, historyScores, skillPostings);
+        }
+    }
+}
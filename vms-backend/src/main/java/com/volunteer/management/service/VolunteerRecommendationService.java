@@ -0,0 +1,110 @@
+package com.volunteer.management.service;
+
+import com.volunteer.management.dto.VolunteerRecommendationDto;
+import com.volunteer.management.dto.VolunteerSummaryDto;
+import com.volunteer.management.entity.Event;
+import com.volunteer.management.exception.ResourceNotFoundException;
+import com.volunteer.management.repository.EventRepository;
+import com.volunteer.management.repository.VolunteerRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Top-K volunteers for an event, scored on
+ *  - skills: share of the skills named in the event's name/description the volunteer has
+ *  - availability: whether their weekly availability covers the event (VolunteerAvailabilityService)
+ *  - history: how many past events they worked, on a log scale
+ * Volunteers already on the roster, or assigned to another event at the same time, are left out.
+ *
+ * Skills and history come from VolunteerFeatures, rebuilt from the database when the
+ * application is ready and then every app.recommendations.refresh-interval, so they can
+ * lag that far behind. Availability and conflicts are read fresh for every request.
+ * A request is one event lookup, one conflict query, one pass over the feature arrays
+ * and one summary query for the K winners.
+ */
+@Service
+@RequiredArgsConstructor
+public class VolunteerRecommendationService {
+
+    private static final Logger log = LoggerFactory.getLogger(VolunteerRecommendationService.class);
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 100;
+
+    private final VolunteerRepository volunteerRepository;
+    private final EventRepository eventRepository;
+    private final VolunteerAvailabilityService availabilityService;
+    private volatile VolunteerFeatures features = VolunteerFeatures.EMPTY;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.recommendations.refresh-interval:5m}",
+            initialDelayString = "${app.recommendations.refresh-interval:5m}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        long start = System.nanoTime();
+        long[] ids;
+        try (Stream<Long> rows = volunteerRepository.streamIds()) {
+            ids = rows.mapToLong(Long::longValue).toArray();
+        }
+        VolunteerFeatures.Builder builder = new VolunteerFeatures.Builder(ids);
+        try (Stream<Object[]> rows = volunteerRepository.streamSkillTags()) {
+            rows.forEach(row -> builder.skill((Long) row[0], (String) row[1]));
+        }
+        for (Object[] row : volunteerRepository.countPastEvents(LocalDateTime.now())) {
+            builder.pastEvents((Long) row[0], ((Number) row[1]).intValue());
+        }
+        features = builder.build();
+        log.info("Recommendation features built for {} volunteers in {} ms",
+                ids.length, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Transactional(readOnly = true)
+    public List<VolunteerRecommendationDto> recommend(Long eventId, int limit) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", "id", eventId));
+        int k = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        VolunteerFeatures current = features;
+
+        Set<String> skills = current.skillsMentionedIn(event.getName() + "\n" + Objects.toString(event.getDescription(), ""));
+        long[] available = availabilityService.availableIds(event.getStartDateTime(), event.getEndDateTime());
+        List<Long> busy = volunteerRepository.findIdsBusyBetween(event.getStartDateTime(), event.getEndDateTime());
+        List<VolunteerFeatures.Candidate> best = current.topK(skills, available, busy, k);
+        if (best.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> ids = best.stream().map(candidate -> current.id(candidate.position())).collect(Collectors.toList());
+        Map<Long, VolunteerSummaryDto> summaries = volunteerRepository.findSummariesByIds(ids).stream()
+                .collect(Collectors.toMap(VolunteerSummaryDto::getId, Function.identity()));
+        List<VolunteerRecommendationDto> recommendations = new ArrayList<>(best.size());
+        for (VolunteerFeatures.Candidate candidate : best) {
+            long id = current.id(candidate.position());
+            VolunteerSummaryDto summary = summaries.get(id);
+            if (summary == null) {
+                continue; // deleted since the features were built
+            }
+            recommendations.add(new VolunteerRecommendationDto(id, summary.getName(), summary.getEmail(),
+                    summary.getPhoneNumber(), Math.round(candidate.score() * 1000) / 1000.0,
+                    current.matchedSkills(candidate.position(), skills),
+                    Arrays.binarySearch(available, id) >= 0,
+                    current.pastEvents(candidate.position())));
+        }
+        return recommendations;
+    }
+}
@@ -0,0 +1,110 @@
+package com.volunteer.management.service;
+
+import com.volunteer.management.dto.CursorPageDto;
+import com.volunteer.management.dto.VolunteerSearchCursor;
+import com.volunteer.management.dto.VolunteerSearchResultDto;
+import com.volunteer.management.dto.VolunteerSummaryDto;
+import com.volunteer.management.entity.Volunteer;
+import com.volunteer.management.exception.ApiException;
+import com.volunteer.management.repository.VolunteerRepository;
+import com.volunteer.management.util.SkillTokenizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Skill search over the volunteer_skills inverted index (see Volunteer.skillTags).
+ *
+ * A search is three small queries whatever the number of volunteers: the ranked page of
+ * (volunteer, score) read from the (skill, volunteer_id) index, then the contact details and
+ * the matched skills for just the ids on that page. Results are ordered by the number of
+ * requested skills matched, then by volunteer id, and paged by keyset cursor.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class VolunteerSearchService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_SKILLS = 20;
+    private static final int REINDEX_BATCH_SIZE = 500;
+
+    private final VolunteerRepository volunteerRepository;
+
+    public CursorPageDto<VolunteerSearchResultDto> search(String skills, String cursor, int size) {
+        Set<String> tokens = SkillTokenizer.tokenize(skills);
+        if (tokens.isEmpty()) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "At least one skill is required.");
+        }
+        if (tokens.size() > MAX_SKILLS) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "At most " + MAX_SKILLS + " skills can be searched at once.");
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        List<Object[]> rows;
+        if (StringUtils.hasText(cursor)) {
+            VolunteerSearchCursor after = VolunteerSearchCursor.decode(cursor);
+            rows = volunteerRepository.findSkillMatchesAfter(tokens, after.score(), after.id(), pageSize + 1);
+        } else {
+            rows = volunteerRepository.findSkillMatches(tokens, pageSize + 1);
+        }
+        boolean hasMore = rows.size() > pageSize;
+        List<Object[]> page = hasMore ? rows.subList(0, pageSize) : rows;
+        if (page.isEmpty()) {
+            return new CursorPageDto<>(new ArrayList<>(), null, false);
+        }
+
+        List<Long> ids = page.stream().map(row -> ((Number) row[0]).longValue()).collect(Collectors.toList());
+        Map<Long, VolunteerSummaryDto> summaries = volunteerRepository.findSummariesByIds(ids).stream()
+                .collect(Collectors.toMap(VolunteerSummaryDto::getId, Function.identity()));
+        Map<Long, Set<String>> matched = volunteerRepository.findMatchedSkills(ids, tokens).stream()
+                .collect(Collectors.groupingBy(row -> ((Number) row[0]).longValue(),
+                        Collectors.mapping(row -> (String) row[1], Collectors.toCollection(TreeSet::new))));
+
+        List<VolunteerSearchResultDto> items = new ArrayList<>(page.size());
+        for (Object[] row : page) {
+            Long id = ((Number) row[0]).longValue();
+            int score = ((Number) row[1]).intValue();
+            VolunteerSummaryDto summary = summaries.get(id);
+            if (summary == null) {
+                continue; // Deleted between the two queries
+            }
+            items.add(new VolunteerSearchResultDto(id, summary.getName(), summary.getEmail(), summary.getPhoneNumber(),
+                    summary.getSkills(), summary.getAvailability(), score,
+                    new ArrayList<>(matched.getOrDefault(id, Set.of()))));
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            Object[] last = page.get(page.size() - 1);
+            nextCursor = new VolunteerSearchCursor(((Number) last[1]).longValue(), ((Number) last[0]).longValue()).encode();
+        }
+        return new CursorPageDto<>(items, nextCursor, hasMore);
+    }
+
+    /**
+     * Indexes one batch of volunteers whose skills text has no index rows yet, after the
+     * given id. Returns the last id looked at, or null when there is nothing left; callers
+     * loop so that each batch is its own transaction.
+     */
+    @Transactional
+    public Long reindexBatch(Long afterId) {
+        List<Volunteer> batch = volunteerRepository.findWithUnindexedSkills(afterId, Limit.of(REINDEX_BATCH_SIZE));
+        for (Volunteer volunteer : batch) {
+            volunteer.setSkills(volunteer.getSkills());
+        }
+        return batch.isEmpty() ? null : batch.get(batch.size() - 1).getId();
+    }
+}
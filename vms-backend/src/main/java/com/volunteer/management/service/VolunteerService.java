@@ -1,14 +1,19 @@
 package com.volunteer.management.service;
 
+import com.volunteer.management.dto.AvailabilitySlotDto;
 import com.volunteer.management.dto.VolunteerDetailsDto;
 import com.volunteer.management.dto.VolunteerDto;
 import com.volunteer.management.dto.VolunteerProfileDto;
+import com.volunteer.management.entity.AvailabilitySlot;
 import com.volunteer.management.entity.User;
 import com.volunteer.management.entity.Volunteer;
+import com.volunteer.management.exception.ApiException;
 import com.volunteer.management.exception.ResourceNotFoundException;
+import com.volunteer.management.repository.EventRepository;
 import com.volunteer.management.repository.UserRepository;
 import com.volunteer.management.repository.VolunteerRepository;
 import lombok.RequiredArgsConstructor; // Lombok: Generates constructor for final fields
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional; // Ensure atomicity
 
@@ -21,6 +26,9 @@ import java.util.stream.Collectors;
 public class VolunteerService {
 
     private final VolunteerRepository volunteerRepository;
+    private final EntityCacheEvictor cacheEvictor;
+    private final EventRepository eventRepository; // Bumps event versions when roster details change
+    private final VolunteerAvailabilityService availabilityService;
     // Consider adding a Mapper component (e.g., using MapStruct) for complex mapping
  private final UserRepository userRepository; 
     // --- Mapping Logic (Simple Manual Example) ---
@@ -69,6 +77,7 @@ public class VolunteerService {
 
         Volunteer volunteer = mapToEntity(volunteerDto);
         Volunteer savedVolunteer = volunteerRepository.save(volunteer);
+        availabilityService.refresh(savedVolunteer);
         return mapToDto(savedVolunteer);
     }
 
@@ -84,13 +93,19 @@ public class VolunteerService {
         existingVolunteer.setAvailability(volunteerDto.getAvailability());
 
         Volunteer updatedVolunteer = volunteerRepository.save(existingVolunteer);
+        availabilityService.refresh(updatedVolunteer);
+        eventRepository.touchEventsOfVolunteer(id); // Their rosters show these details
         return mapToDto(updatedVolunteer);
     }
 
     public void deleteVolunteer(Long id) {
         Volunteer volunteer = volunteerRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Volunteer", "id", id));
+        eventRepository.touchEventsOfVolunteer(id); // Must run while the roster rows still exist
         volunteerRepository.delete(volunteer);
+        availabilityService.remove(id);
+        // Volunteer is the inverse side, so Hibernate won't touch cached rosters that list this id
+        cacheEvictor.evictAllEventRosters();
     }
     // private VolunteerProfileDto mapToProfileDto(Volunteer volunteer) {
     //     User user = volunteer.getUser(); // Assumes eager fetch or within transaction
@@ -132,9 +147,14 @@ public class VolunteerService {
         volunteer.setPhoneNumber(detailsDto.getPhoneNumber());
         volunteer.setAvailability(detailsDto.getAvailability());
         volunteer.setSkills(detailsDto.getSkills());
+        if (detailsDto.getAvailabilitySlots() != null) {
+            volunteer.replaceAvailabilitySlots(toSlots(detailsDto.getAvailabilitySlots()));
+        }
 
         // 4. Save the volunteer record (either new or updated)
         Volunteer savedVolunteer = volunteerRepository.save(volunteer);
+        eventRepository.touchEventsOfVolunteer(savedVolunteer.getId());
+        availabilityService.refresh(savedVolunteer);
 
         // 5. Return the DTO representation
         return mapToProfileDto(savedVolunteer);
@@ -154,10 +174,25 @@ private VolunteerProfileDto mapToProfileDto(Volunteer volunteer) {
             user.getEmail(), // <<< Get from user
             volunteer.getPhoneNumber(),
             volunteer.getAvailability(),
-            volunteer.getSkills()
+            volunteer.getSkills(),
+            VolunteerAvailabilityService.sorted(volunteer.getAvailabilitySlots()).stream()
+                    .map(AvailabilitySlotDto::from)
+                    .collect(Collectors.toList())
     );
 }
 
+private static List<AvailabilitySlot> toSlots(List<AvailabilitySlotDto> dtos) {
+    List<AvailabilitySlot> slots = dtos.stream().map(AvailabilitySlotDto::toSlot).collect(Collectors.toList());
+    for (AvailabilitySlot slot : slots) {
+        if (!slot.isValid()) {
+            throw new ApiException(HttpStatus.BAD_REQUEST,
+                    "Invalid availability slot " + slot.getDayOfWeek() + " " + slot.getStartTime() + "-" + slot.getEndTime()
+                            + ": day, start and end are required and end must be after start (00:00 for midnight).");
+        }
+    }
+    return slots;
+}
+
 // The createOrUpdateVolunteerDetails method no longer needs to worry about setting
 // name/email on the Volunteer object itself. Just set phone, skills, availability, and user link.
      // Keep existing methods if they serve other purposes, but adjust DTOs/mapping
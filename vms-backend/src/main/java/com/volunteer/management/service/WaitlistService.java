@@ -0,0 +1,91 @@
+package com.volunteer.management.service;
+
+import com.volunteer.management.entity.WaitlistEntry;
+import com.volunteer.management.repository.EventRepository;
+import com.volunteer.management.repository.WaitlistRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Per-event FIFO waitlist.
+ *
+ * Promotion works on the head of the queue only: try to reserve a slot for it and drop
+ * it if that succeeded. Each step is an indexed single-row operation, so freeing a slot
+ * never rescans registrations or the waitlist.
+ *
+ * Promoting and joining the queue both hold the event row lock (the one bulk assignment
+ * uses), so promotions for an event run one at a time in strict FIFO order, and a slot
+ * freed while a volunteer is being queued is never handed to an empty waitlist.
+ */
+@Service
+@RequiredArgsConstructor
+public class WaitlistService {
+
+    private static final Logger log = LoggerFactory.getLogger(WaitlistService.class);
+
+    private final WaitlistRepository waitlistRepository;
+    private final EventRepository eventRepository;
+    private final SlotReservationService slotReservationService;
+
+    /**
+     * Adds the volunteer to the end of the queue (or keeps their place) and returns their
+     * position. Returns 0 if a slot was freed after the caller found the event full and the
+     * volunteer got it instead: an unassign that committed in between promoted from a queue
+     * this volunteer wasn't in yet, so the promotion is repeated here under the lock.
+     */
+    @Transactional
+    public long enqueue(Long eventId, Long volunteerId) {
+        eventRepository.lockRegisteredCount(eventId);
+        waitlistRepository.insertIfAbsent(eventId, volunteerId, LocalDateTime.now());
+        promote(eventId);
+        return waitlistRepository.findByEventIdAndVolunteerId(eventId, volunteerId)
+                .map(entry -> waitlistRepository.findPosition(eventId, entry.getId()))
+                .orElse(0L);
+    }
+
+    /**
+     * Moves volunteers from the head of the waitlist into free slots until the event is
+     * full again or the queue is empty. Runs in the caller's transaction so a slot freed
+     * by an unassign is handed over before anyone else can see it.
+     *
+     * @return number of volunteers promoted
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int promote(Long eventId) {
+        // Serializes promotions per event; re-entrant for callers that already hold it
+        if (eventRepository.lockRegisteredCount(eventId).isEmpty()) {
+            return 0;
+        }
+        int promoted = 0;
+        while (true) {
+            Optional<WaitlistEntry> head = waitlistRepository.findFirstByEventIdOrderByIdAsc(eventId);
+            if (head.isEmpty()) {
+                return promoted;
+            }
+            WaitlistEntry entry = head.get();
+            Long volunteerId = entry.getVolunteer().getId();
+            SlotReservationService.Result result = slotReservationService.reserve(eventId, volunteerId);
+            if (result == SlotReservationService.Result.FULL) {
+                return promoted; // entry keeps its place
+            }
+            // RESERVED, or ALREADY_REGISTERED (assigned directly meanwhile): either way the entry is done
+            waitlistRepository.delete(entry);
+            if (result == SlotReservationService.Result.RESERVED) {
+                promoted++;
+                log.info("Promoted volunteer ID {} from the waitlist of event ID {}", volunteerId, eventId);
+            }
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void clear(Long eventId) {
+        waitlistRepository.deleteByEventId(eventId);
+    }
+}
@@ -0,0 +1,167 @@
+package com.volunteer.management.util;
+
+import com.volunteer.management.entity.AvailabilitySlot;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Best-effort reading of the free-text availability field into weekly slots, for clients
+ * (and old rows) that only send text. Parts are separated like skills; each part is an
+ * optional day spec followed by an optional time spec:
+ *
+ *   days:  monday / mon, mon-fri, weekdays, weekends, daily / anytime (or omitted: every day)
+ *   times: 09:00-13:00, 9-17, mornings (06-12), afternoons (12-17), evenings (17-22), nights (22-24)
+ *
+ * "weekends", "mon-fri 9-17", "tue evenings", "sat 09:00-13:00". Parts it can't read are
+ * skipped, so unrecognized text simply yields no slots.
+ */
+public final class AvailabilityParser {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[,;|\\r\\n]+");
+    private static final Pattern PART = Pattern.compile(
+            "^(?:(?<days>[a-z]+(?:\\s*-\\s*[a-z]+)?)\\s*)?(?<time>\\d{1,2}(?::\\d{2})?\\s*-\\s*\\d{1,2}(?::\\d{2})?|[a-z]+)?$");
+    private static final LocalTime END_OF_DAY = LocalTime.MIDNIGHT;
+
+    private AvailabilityParser() {
+    }
+
+    public static Set<AvailabilitySlot> parse(String availability) {
+        Set<AvailabilitySlot> slots = new LinkedHashSet<>();
+        if (availability == null || availability.isBlank()) {
+            return slots;
+        }
+        for (String raw : SEPARATORS.split(availability)) {
+            String part = raw.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+            if (part.isEmpty()) {
+                continue;
+            }
+            parsePart(part, slots);
+        }
+        return slots;
+    }
+
+    private static void parsePart(String part, Set<AvailabilitySlot> slots) {
+        // A lone word may be a day spec ("weekends") or a time spec ("evenings")
+        Set<DayOfWeek> days = days(part);
+        LocalTime[] window = null;
+        if (days == null) {
+            window = window(part);
+            if (window != null) {
+                days = EnumSet.allOf(DayOfWeek.class);
+            } else {
+                Matcher matcher = PART.matcher(part);
+                if (!matcher.matches() || matcher.group("days") == null) {
+                    return;
+                }
+                days = days(matcher.group("days"));
+                window = matcher.group("time") == null ? wholeDay() : window(matcher.group("time"));
+                if (days == null || window == null) {
+                    return;
+                }
+            }
+        } else {
+            window = wholeDay();
+        }
+        for (DayOfWeek day : days) {
+            AvailabilitySlot slot = new AvailabilitySlot(day, window[0], window[1]);
+            if (slot.isValid()) {
+                slots.add(slot);
+            }
+        }
+    }
+
+    private static Set<DayOfWeek> days(String spec) {
+        switch (spec.replace(" ", "")) {
+            case "weekends", "weekend" -> {
+                return EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+            }
+            case "weekdays", "weekday" -> {
+                return EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+            }
+            case "daily", "anytime", "always", "everyday" -> {
+                return EnumSet.allOf(DayOfWeek.class);
+            }
+            default -> { }
+        }
+        int dash = spec.indexOf('-');
+        if (dash > 0) {
+            DayOfWeek from = day(spec.substring(0, dash).trim());
+            DayOfWeek to = day(spec.substring(dash + 1).trim());
+            if (from == null || to == null) {
+                return null;
+            }
+            Set<DayOfWeek> range = EnumSet.noneOf(DayOfWeek.class);
+            for (DayOfWeek day = from; ; day = day.plus(1)) { // wraps, so fri-mon works
+                range.add(day);
+                if (day == to) {
+                    return range;
+                }
+            }
+        }
+        DayOfWeek day = day(spec);
+        return day == null ? null : EnumSet.of(day);
+    }
+
+    // "monday", "mondays", "mon", "tues", "thurs"
+    private static DayOfWeek day(String name) {
+        String singular = name.length() > 3 && name.endsWith("s") ? name.substring(0, name.length() - 1) : name;
+        if (singular.length() < 3) {
+            return null;
+        }
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (day.name().toLowerCase(Locale.ROOT).startsWith(singular)) {
+                return day;
+            }
+        }
+        return null;
+    }
+
+    private static LocalTime[] window(String spec) {
+        switch (spec) {
+            case "mornings", "morning" -> {
+                return new LocalTime[]{LocalTime.of(6, 0), LocalTime.NOON};
+            }
+            case "afternoons", "afternoon" -> {
+                return new LocalTime[]{LocalTime.NOON, LocalTime.of(17, 0)};
+            }
+            case "evenings", "evening" -> {
+                return new LocalTime[]{LocalTime.of(17, 0), LocalTime.of(22, 0)};
+            }
+            case "nights", "night" -> {
+                return new LocalTime[]{LocalTime.of(22, 0), END_OF_DAY};
+            }
+            default -> { }
+        }
+        int dash = spec.indexOf('-');
+        if (dash <= 0) {
+            return null;
+        }
+        LocalTime start = time(spec.substring(0, dash).trim());
+        LocalTime end = time(spec.substring(dash + 1).trim());
+        return start == null || end == null ? null : new LocalTime[]{start, end};
+    }
+
+    private static LocalTime time(String value) {
+        try {
+            if (value.indexOf(':') < 0) {
+                int hour = Integer.parseInt(value);
+                return hour == 24 ? END_OF_DAY : LocalTime.of(hour, 0);
+            }
+            return "24:00".equals(value) ? END_OF_DAY : LocalTime.parse(value.length() == 4 ? "0" + value : value);
+        } catch (NumberFormatException | DateTimeParseException ex) {
+            return null;
+        }
+    }
+
+    private static LocalTime[] wholeDay() {
+        return new LocalTime[]{LocalTime.MIDNIGHT, END_OF_DAY};
+    }
+}
@@ -0,0 +1,187 @@
+package com.volunteer.management.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * The subset of iCalendar RRULEs (RFC 5545) event series use:
+ *
+ *   FREQ=DAILY|WEEKLY, INTERVAL=n, BYDAY=MO,WE,... (weekly only), COUNT=n, UNTIL=yyyyMMdd
+ *
+ * e.g. "FREQ=WEEKLY;BYDAY=SA" (every Saturday) or "FREQ=WEEKLY;INTERVAL=2;BYDAY=TU,TH;COUNT=20".
+ * Occurrences fall on the first start's time of day. A weekly rule without BYDAY repeats on
+ * the first start's weekday. UNTIL is inclusive.
+ *
+ * between() jumps straight to the requested window instead of walking from the first
+ * occurrence, so expanding a window costs the same in year one as in year ten.
+ */
+public record RecurrenceRule(Frequency frequency, int interval, Set<DayOfWeek> byDay, Integer count, LocalDate until) {
+
+    public enum Frequency { DAILY, WEEKLY }
+
+    public static final int MAX_COUNT = 10_000;
+    private static final DateTimeFormatter UNTIL_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    // An occurrence and its position in the series (0 for the first start)
+    public record Occurrence(long index, LocalDateTime start) {
+    }
+
+    public static RecurrenceRule parse(String rule) {
+        if (rule == null || rule.isBlank()) {
+            throw new IllegalArgumentException("Recurrence rule is required");
+        }
+        Frequency frequency = null;
+        int interval = 1;
+        Set<DayOfWeek> byDay = EnumSet.noneOf(DayOfWeek.class);
+        Integer count = null;
+        LocalDate until = null;
+        String text = rule.trim().toUpperCase(Locale.ROOT);
+        if (text.startsWith("RRULE:")) {
+            text = text.substring("RRULE:".length());
+        }
+        for (String part : text.split(";")) {
+            int eq = part.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Malformed recurrence rule part '" + part + "'");
+            }
+            String name = part.substring(0, eq).trim();
+            String value = part.substring(eq + 1).trim();
+            try {
+                switch (name) {
+                    case "FREQ" -> frequency = Frequency.valueOf(value);
+                    case "INTERVAL" -> interval = Integer.parseInt(value);
+                    case "BYDAY" -> {
+                        for (String day : value.split(",")) {
+                            byDay.add(day(day.trim()));
+                        }
+                    }
+                    case "COUNT" -> count = Integer.parseInt(value);
+                    // A date-time UNTIL counts by its date
+                    case "UNTIL" -> until = LocalDate.parse(value.length() > 8 ? value.substring(0, 8) : value, UNTIL_FORMAT);
+                    default -> throw new IllegalArgumentException("Unsupported recurrence rule part " + name);
+                }
+            } catch (NumberFormatException | DateTimeParseException ex) {
+                throw new IllegalArgumentException("Invalid value for " + name + ": '" + value + "'");
+            } catch (IllegalArgumentException ex) {
+                throw ex.getMessage() != null && ex.getMessage().startsWith("Unsupported")
+                        ? ex : new IllegalArgumentException("Invalid value for " + name + ": '" + value + "'");
+            }
+        }
+        if (frequency == null) {
+            throw new IllegalArgumentException("FREQ is required (DAILY or WEEKLY)");
+        }
+        if (interval < 1 || interval > 52) {
+            throw new IllegalArgumentException("INTERVAL must be between 1 and 52");
+        }
+        if (count != null && (count < 1 || count > MAX_COUNT)) {
+            throw new IllegalArgumentException("COUNT must be between 1 and " + MAX_COUNT);
+        }
+        if (count != null && until != null) {
+            throw new IllegalArgumentException("COUNT and UNTIL can't be combined");
+        }
+        if (frequency == Frequency.DAILY && !byDay.isEmpty()) {
+            throw new IllegalArgumentException("BYDAY is only supported with FREQ=WEEKLY");
+        }
+        return new RecurrenceRule(frequency, interval, byDay, count, until);
+    }
+
+    private static DayOfWeek day(String code) {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (day.name().startsWith(code) && code.length() == 2) {
+                return day;
+            }
+        }
+        throw new IllegalArgumentException("Unknown day " + code);
+    }
+
+    // Canonical RRULE text, as stored
+    public String format() {
+        StringJoiner rule = new StringJoiner(";");
+        rule.add("FREQ=" + frequency);
+        if (interval != 1) {
+            rule.add("INTERVAL=" + interval);
+        }
+        if (!byDay.isEmpty()) {
+            StringJoiner days = new StringJoiner(",");
+            byDay.forEach(day -> days.add(day.name().substring(0, 2)));
+            rule.add("BYDAY=" + days);
+        }
+        if (count != null) {
+            rule.add("COUNT=" + count);
+        }
+        if (until != null) {
+            rule.add("UNTIL=" + until.format(UNTIL_FORMAT));
+        }
+        return rule.toString();
+    }
+
+    /**
+     * Occurrences starting in [from, to), in order, at most limit of them.
+     */
+    public List<Occurrence> between(LocalDateTime firstStart, LocalDateTime from, LocalDateTime to, int limit) {
+        List<Occurrence> occurrences = new ArrayList<>();
+        if (!to.isAfter(from)) {
+            return occurrences;
+        }
+        LocalDate firstDate = firstStart.toLocalDate();
+        LocalDate fromDate = from.toLocalDate().isBefore(firstDate) ? firstDate : from.toLocalDate();
+        if (frequency == Frequency.DAILY) {
+            long period = Math.max(0, Math.floorDiv(ChronoUnit.DAYS.between(firstDate, fromDate), interval));
+            for (long index = period; ; index++) {
+                LocalDate date = firstDate.plusDays(index * interval);
+                if (!add(occurrences, index, date.atTime(firstStart.toLocalTime()), from, to, limit)) {
+                    return occurrences;
+                }
+            }
+        }
+
+        List<DayOfWeek> days = new ArrayList<>(byDay.isEmpty() ? EnumSet.of(firstStart.getDayOfWeek()) : byDay);
+        LocalDate firstMonday = firstDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        // Days of the first week that fall before the first start are not occurrences
+        int skipped = (int) days.stream().filter(day -> day.compareTo(firstStart.getDayOfWeek()) < 0).count();
+        long weeksToWindow = ChronoUnit.WEEKS.between(firstMonday, fromDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)));
+        for (long period = Math.max(0, Math.floorDiv(weeksToWindow, interval)); ; period++) {
+            LocalDate monday = firstMonday.plusWeeks(period * interval);
+            for (int i = 0; i < days.size(); i++) {
+                LocalDate date = monday.plusDays(days.get(i).getValue() - 1L);
+                if (date.isBefore(firstDate)) {
+                    continue;
+                }
+                long index = period * days.size() + i - skipped;
+                if (!add(occurrences, index, date.atTime(firstStart.toLocalTime()), from, to, limit)) {
+                    return occurrences;
+                }
+            }
+        }
+    }
+
+    // Whether start is exactly one of the series' occurrences
+    public boolean isOccurrence(LocalDateTime firstStart, LocalDateTime start) {
+        List<Occurrence> found = between(firstStart, start, start.plusNanos(1), 1);
+        return !found.isEmpty() && found.get(0).start().equals(start);
+    }
+
+    // Adds the occurrence if it lies in the window; false once iteration can stop
+    private boolean add(List<Occurrence> occurrences, long index, LocalDateTime start,
+                        LocalDateTime from, LocalDateTime to, int limit) {
+        if ((count != null && index >= count) || (until != null && start.toLocalDate().isAfter(until))
+                || !start.isBefore(to) || occurrences.size() >= limit) {
+            return false;
+        }
+        if (!start.isBefore(from)) {
+            occurrences.add(new Occurrence(index, start));
+        }
+        return true;
+    }
+}
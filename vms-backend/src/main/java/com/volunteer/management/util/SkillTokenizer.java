@@ -0,0 +1,39 @@
+package com.volunteer.management.util;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Turns free-text skills ("First Aid, driving;  Spanish") into normalized tokens
+ * ("first aid", "driving", "spanish"). Used both when indexing Volunteer.skills and when
+ * parsing a search, so a query matches exactly the tokens that were stored.
+ *
+ * Skills are separated by commas, semicolons, slashes, pipes or line breaks; each one is
+ * trimmed, lower-cased and has its inner whitespace collapsed. Multi-word skills stay one token.
+ */
+public final class SkillTokenizer {
+
+    public static final int MAX_TOKEN_LENGTH = 100;
+
+    private static final Pattern SEPARATORS = Pattern.compile("[,;/|\\r\\n]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SkillTokenizer() {
+    }
+
+    public static Set<String> tokenize(String skills) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (skills == null || skills.isBlank()) {
+            return tokens;
+        }
+        for (String part : SEPARATORS.split(skills)) {
+            String token = WHITESPACE.matcher(part.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+            if (!token.isEmpty()) {
+                tokens.add(token.length() > MAX_TOKEN_LENGTH ? token.substring(0, MAX_TOKEN_LENGTH) : token);
+            }
+        }
+        return tokens;
+    }
+}
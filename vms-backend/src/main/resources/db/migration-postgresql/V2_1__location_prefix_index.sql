@@ -0,0 +1,3 @@
+-- The location filter is a case-insensitive prefix match (lower(location) like 'x%'),
+-- which the plain idx_events_location can't serve. PostgreSQL only: H2 has no expression indexes.
+create index if not exists idx_events_location_prefix on events (lower(location) text_pattern_ops, start_date_time);
@@ -0,0 +1,7 @@
+-- Migrations V1_1 to V1_5 bring a baselined database up to the schema the entities expect.
+-- Such a database may already hold some of these objects, created by ddl-auto=update while
+-- it still ran, so every statement is "if not exists".
+
+-- Keyset pagination of the event listing orders by (start_date_time, id)
+create index if not exists idx_events_start_id on events (start_date_time, id);
+create index if not exists idx_events_location on events (location);
@@ -0,0 +1,3 @@
+-- Reserved slots per event, kept in step with event_volunteers by the slot statements.
+-- Existing rows start at 0; DataInitializer reconciles them at startup.
+alter table events add column if not exists registered_count integer default 0 not null;
@@ -0,0 +1,13 @@
+-- Per-event FIFO waitlist, ordered by id
+create table if not exists event_waitlist (
+    id bigint generated by default as identity,
+    event_id bigint not null,
+    volunteer_id bigint not null,
+    created_at timestamp(6) not null,
+    constraint event_waitlist_pkey primary key (id),
+    constraint uk_waitlist_event_volunteer unique (event_id, volunteer_id),
+    constraint fk_event_waitlist_event foreign key (event_id) references events (id),
+    constraint fk_event_waitlist_volunteer foreign key (volunteer_id) references volunteers (id)
+);
+
+create index if not exists idx_waitlist_event_order on event_waitlist (event_id, id);
@@ -0,0 +1,4 @@
+-- Change counter and timestamp behind the event ETag / Last-Modified validators.
+-- Defaulted so existing rows and bulk inserts get them.
+alter table events add column if not exists version bigint default 0 not null;
+alter table events add column if not exists updated_at timestamp(6) default current_timestamp not null;
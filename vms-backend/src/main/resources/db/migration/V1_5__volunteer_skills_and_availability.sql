@@ -0,0 +1,21 @@
+-- Tokenized skills (the inverted index behind skill search) and weekly availability slots.
+-- Both are derived from the free-text volunteers columns; DataInitializer backfills them at startup.
+create table if not exists volunteer_skills (
+    volunteer_id bigint not null,
+    skill varchar(100) not null,
+    constraint volunteer_skills_pkey primary key (volunteer_id, skill),
+    constraint fk_volunteer_skills_volunteer foreign key (volunteer_id) references volunteers (id)
+);
+
+create index if not exists idx_volunteer_skills_skill on volunteer_skills (skill, volunteer_id);
+
+create table if not exists volunteer_availability (
+    end_time time(6) not null,
+    start_time time(6) not null,
+    volunteer_id bigint not null,
+    day_of_week varchar(9) not null,
+    constraint volunteer_availability_pkey primary key (end_time, start_time, volunteer_id, day_of_week),
+    constraint ck_volunteer_availability_day check (day_of_week in
+        ('MONDAY', 'TUESDAY', 'WEDNESDAY', 'THURSDAY', 'FRIDAY', 'SATURDAY', 'SUNDAY')),
+    constraint fk_volunteer_availability_volunteer foreign key (volunteer_id) references volunteers (id)
+);
@@ -0,0 +1,63 @@
+-- Schema as spring.jpa.hibernate.ddl-auto=update created it for the original entities, before
+-- the event listing, registration and volunteer profile work added to it (V1_1 to V1_5).
+-- Databases created that way are baselined at version 1 (spring.flyway.baseline-on-migrate),
+-- so this script only runs on empty databases. Keep it PostgreSQL SQL that H2 in
+-- PostgreSQL mode (the test database) also accepts.
+
+create table users (
+    id bigint generated by default as identity,
+    email varchar(255) not null,
+    name varchar(255) not null,
+    password varchar(255) not null,
+    username varchar(255) not null,
+    constraint users_pkey primary key (id),
+    constraint uk_users_email unique (email),
+    constraint uk_users_username unique (username)
+);
+
+create table roles (
+    id bigint generated by default as identity,
+    name varchar(60) not null,
+    constraint roles_pkey primary key (id),
+    constraint uk_roles_name unique (name)
+);
+
+create table user_roles (
+    role_id bigint not null,
+    user_id bigint not null,
+    constraint user_roles_pkey primary key (role_id, user_id),
+    constraint fk_user_roles_role foreign key (role_id) references roles (id),
+    constraint fk_user_roles_user foreign key (user_id) references users (id)
+);
+
+create table volunteers (
+    id bigint generated by default as identity,
+    user_id bigint,
+    phone_number varchar(20),
+    availability text,
+    skills text,
+    constraint volunteers_pkey primary key (id),
+    constraint uk_volunteers_user unique (user_id),
+    constraint fk_volunteers_user foreign key (user_id) references users (id)
+);
+
+create table events (
+    id bigint generated by default as identity,
+    name varchar(200) not null,
+    description text,
+    location varchar(255),
+    start_date_time timestamp(6) not null,
+    end_date_time timestamp(6) not null,
+    slots_available integer,
+    organizer_user_id bigint not null,
+    constraint events_pkey primary key (id),
+    constraint fk_events_organizer foreign key (organizer_user_id) references users (id)
+);
+
+create table event_volunteers (
+    event_id bigint not null,
+    volunteer_id bigint not null,
+    constraint event_volunteers_pkey primary key (event_id, volunteer_id),
+    constraint fk_event_volunteers_event foreign key (event_id) references events (id),
+    constraint fk_event_volunteers_volunteer foreign key (volunteer_id) references volunteers (id)
+);
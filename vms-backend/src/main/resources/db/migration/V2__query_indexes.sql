@@ -0,0 +1,27 @@
+-- Indexes for the access paths the repositories actually use. "if not exists" because
+-- databases baselined from ddl-auto may already have some of them.
+
+-- Reverse direction of the roster (the primary key leads with event_id): a volunteer's
+-- assignments (Volunteer.assignedEvents, findByAssignedVolunteersContains), the touch
+-- statements for a volunteer's events, busy/past-event features for recommendations,
+-- and the foreign key check when a volunteer is deleted. Covers those reads on its own.
+create index if not exists idx_event_volunteers_volunteer on event_volunteers (volunteer_id, event_id);
+
+-- Events of one organizer in start order (findByOrganizer, touchEventsOfUser, deleting a user)
+create index if not exists idx_events_organizer_start on events (organizer_user_id, start_date_time, id);
+
+-- Events still running after a point in time: overlap checks (start < :end and end > :start)
+-- range-scan end_date_time, which is selective for upcoming windows, and filter start in the index
+create index if not exists idx_events_end_start on events (end_date_time, start_date_time);
+
+-- Waitlist entries of a volunteer (foreign key check when a volunteer is deleted)
+create index if not exists idx_waitlist_volunteer on event_waitlist (volunteer_id);
+
+-- Primary keys Hibernate generated in alphabetical column order, so they didn't serve the
+-- lookups by owner: a user's roles are loaded by user_id, a volunteer's slots by volunteer_id.
+alter table user_roles drop constraint user_roles_pkey;
+alter table user_roles add constraint user_roles_pkey primary key (user_id, role_id);
+
+alter table volunteer_availability drop constraint volunteer_availability_pkey;
+alter table volunteer_availability add constraint volunteer_availability_pkey
+    primary key (volunteer_id, day_of_week, start_time, end_time);
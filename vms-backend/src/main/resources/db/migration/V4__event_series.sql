@@ -0,0 +1,26 @@
+-- Recurring series (EventSeries): occurrences are computed from the recurrence rule and only
+-- stored as events rows once someone registers for or edits one.
+
+create table event_series (
+    id bigint generated by default as identity,
+    name varchar(200) not null,
+    description text,
+    location varchar(255),
+    first_start timestamp(6) not null,
+    duration_minutes integer not null,
+    recurrence_rule varchar(200) not null,
+    slots_available integer,
+    organizer_user_id bigint not null,
+    constraint event_series_pkey primary key (id),
+    constraint fk_event_series_organizer foreign key (organizer_user_id) references users (id)
+);
+
+create index idx_event_series_organizer on event_series (organizer_user_id);
+
+-- A materialized occurrence remembers which slot of its series it stands for, even after the
+-- organizer moves it; the unique constraint makes materializing the same slot twice a no-op
+-- and serves the per-series window lookups.
+alter table events add column series_id bigint;
+alter table events add column occurrence_start timestamp(6);
+alter table events add constraint fk_events_series foreign key (series_id) references event_series (id);
+alter table events add constraint uk_events_series_occurrence unique (series_id, occurrence_start);
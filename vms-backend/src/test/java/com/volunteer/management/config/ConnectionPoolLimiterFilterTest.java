@@ -0,0 +1,86 @@
+package com.volunteer.management.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConnectionPoolLimiterFilterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConnectionPoolLimiterFilter filter = new ConnectionPoolLimiterFilter(
+            1, Duration.ofMillis(50), 3, Jackson2ObjectMapperBuilder.json().build(), meterRegistry);
+
+    @Test
+    void rejectsWith503OncePermitsAreExhausted() throws Exception {
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain holding = (request, response) -> {
+            inside.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/events"), new MockHttpServletResponse(), holding);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(inside.await(5, TimeUnit.SECONDS)).isTrue();
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/events"), rejected, new MockFilterChain());
+
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("3");
+        assertThat(rejected.getContentAsString()).contains("\"path\":\"/api/events\"");
+        assertThat(meterRegistry.counter("vms.limiter.rejected").count()).isEqualTo(1);
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        MockHttpServletResponse afterwards = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/events"), afterwards, new MockFilterChain());
+        assertThat(afterwards.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void actuatorBypassesTheLimiter() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain holding = (request, res) ->
+                filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), response, new MockFilterChain());
+
+        // The outer request holds the only permit while the health check runs
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/events"), new MockHttpServletResponse(), holding);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void permitsGaugeSurvivesGarbageCollection() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        // Above the Integer cache, so a boxed gauge state would be collectable
+        ConnectionPoolLimiterFilter large = new ConnectionPoolLimiterFilter(
+                500, Duration.ofMillis(50), 3, Jackson2ObjectMapperBuilder.json().build(), registry);
+
+        System.gc();
+
+        assertThat(registry.get("vms.limiter.permits").gauge().value()).isEqualTo(500);
+        assertThat(registry.get("vms.limiter.active").gauge().value()).isZero();
+        assertThat(large).isNotNull();
+    }
+}
@@ -0,0 +1,241 @@
+package com.volunteer.management.config;
+
+import com.volunteer.management.security.services.UserDetailsImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyFilterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final IdempotencyFilter filter = new IdempotencyFilter(Duration.ofMinutes(5), 1024 * 1024,
+            Duration.ofSeconds(5), 1024, Jackson2ObjectMapperBuilder.json().build(), meterRegistry);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private static final Long ALICE = 1L;
+    private static final Long BOB = 2L;
+
+    // Echoes the body back with 201, like a create endpoint
+    private final FilterChain creating = (request, response) -> {
+        int execution = executions.incrementAndGet();
+        String body = StreamUtils.copyToString(request.getInputStream(), StandardCharsets.UTF_8);
+        HttpServletResponse http = (HttpServletResponse) response;
+        http.setStatus(201);
+        http.setHeader("Location", "/api/things/" + execution);
+        http.setContentType("application/json");
+        http.getWriter().write("{\"execution\":" + execution + ",\"echo\":" + body + "}");
+    };
+
+    @Test
+    void repeatsGetTheOriginalResponse() throws Exception {
+        MockHttpServletResponse first = post(ALICE, "key-1", "{\"eventId\":7}", creating);
+        MockHttpServletResponse retry = post(ALICE, "key-1", "{\"eventId\":7}", creating);
+
+        assertThat(executions).hasValue(1);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString()).contains("\"execution\":1");
+        assertThat(retry.getHeader("Location")).isEqualTo("/api/things/1");
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(meterRegistry.counter("vms.idempotency.replayed").count()).isEqualTo(1);
+    }
+
+    @Test
+    void keysAreScopedToTheUserAndRejectADifferentBody() throws Exception {
+        post(ALICE, "shared", "{\"eventId\":7}", creating);
+        MockHttpServletResponse otherCaller = post(BOB, "shared", "{\"eventId\":7}", creating);
+        MockHttpServletResponse otherBody = post(ALICE, "shared", "{\"eventId\":8}", creating);
+
+        assertThat(otherCaller.getStatus()).isEqualTo(201);
+        assertThat(otherBody.getStatus()).isEqualTo(422);
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void concurrentDuplicatesWaitForTheFirst() throws Exception {
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slow = (request, response) -> {
+            inside.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            creating.doFilter(request, response);
+        };
+        CompletableFuture<MockHttpServletResponse> first = CompletableFuture.supplyAsync(() -> postUnchecked(slow));
+        assertThat(inside.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<MockHttpServletResponse> duplicate = CompletableFuture.supplyAsync(() -> postUnchecked(slow));
+        while (meterRegistry.counter("vms.idempotency.coalesced").count() < 1) {
+            Thread.sleep(5);
+        }
+
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(201);
+        assertThat(duplicate.get(5, TimeUnit.SECONDS).getContentAsString())
+                .isEqualTo(first.get().getContentAsString());
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void serverErrorsAreNotStored() throws Exception {
+        FilterChain failingOnce = (request, response) -> {
+            if (executions.get() == 0) {
+                executions.incrementAndGet();
+                ((HttpServletResponse) response).setStatus(503);
+                return;
+            }
+            creating.doFilter(request, response);
+        };
+
+        assertThat(post(ALICE, "key-2", "{}", failingOnce).getStatus()).isEqualTo(503);
+        assertThat(post(ALICE, "key-2", "{}", failingOnce).getStatus()).isEqualTo(201);
+        assertThat(post(ALICE, "key-2", "{}", failingOnce).getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void oversizedBodiesAreRejectedBeforeRunning() throws Exception {
+        String large = "\"" + "x".repeat(2048) + "\"";
+
+        assertThat(post(ALICE, "key-4", large, creating).getStatus()).isEqualTo(413);
+        // Without a declared length the limit applies to the bytes actually read
+        MockHttpServletRequest chunked = request(ALICE, "key-5", large);
+        chunked.removeHeader("Content-Length");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        authenticated(ALICE, () -> filter.doFilter(new NoContentLengthRequest(chunked), response, creating));
+
+        assertThat(response.getStatus()).isEqualTo(413);
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    void cachedBodySupportsNonBlockingReads() throws Exception {
+        FilterChain nonBlocking = (request, response) -> {
+            ServletInputStream in = request.getInputStream();
+            ByteArrayOutputStream read = new ByteArrayOutputStream();
+            in.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    while (in.isReady() && !in.isFinished()) {
+                        read.write(in.read());
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() throws IOException {
+                    response.getWriter().write(read.toString(StandardCharsets.UTF_8));
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    throw new IllegalStateException(t);
+                }
+            });
+        };
+
+        assertThat(post(ALICE, "key-6", "{\"eventId\":3}", nonBlocking).getContentAsString()).isEqualTo("{\"eventId\":3}");
+    }
+
+    @Test
+    void onlyAuthenticatedPostsWithAKeyAreDeduplicated() throws Exception {
+        post(null, "key-3", "{}", creating);
+        post(null, "key-3", "{}", creating);
+        post(ALICE, null, "{}", creating);
+        post(ALICE, null, "{}", creating);
+
+        assertThat(executions).hasValue(4);
+        assertThat(post(ALICE, "bad key with spaces", "{}", creating).getStatus()).isEqualTo(400);
+    }
+
+    private MockHttpServletResponse postUnchecked(FilterChain chain) {
+        try {
+            return post(ALICE, "concurrent", "{\"eventId\":1}", chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // userId stands in for the principal JwtAuthenticationFilter sets; null is an anonymous request
+    private MockHttpServletResponse post(Long userId, String key, String body, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = request(userId, key, body);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        authenticated(userId, () -> filter.doFilter(request, response, chain));
+        return response;
+    }
+
+    private static MockHttpServletRequest request(Long userId, String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/registrations");
+        if (userId != null) {
+            request.addHeader("Authorization", "Bearer token-of-" + userId);
+        }
+        if (key != null) {
+            request.addHeader(IdempotencyFilter.HEADER, key);
+        }
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static void authenticated(Long userId, FilterCall call) throws Exception {
+        if (userId != null) {
+            UserDetailsImpl user = new UserDetailsImpl(userId, "user" + userId, "user" + userId + "@example.org",
+                    null, List.of());
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+        }
+        try {
+            call.run();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private interface FilterCall {
+        void run() throws Exception;
+    }
+
+    // A body sent without Content-Length (chunked)
+    private static final class NoContentLengthRequest extends HttpServletRequestWrapper {
+
+        NoContentLengthRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return -1;
+        }
+
+        @Override
+        public int getContentLength() {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.volunteer.management.config;
+
+import com.volunteer.management.exception.ServiceBusyException;
+import com.volunteer.management.security.services.TokenRevocationService;
+import com.volunteer.management.security.services.UserDetailsImpl;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "dGVzdC1zZWNyZXQtdGhhdC1pcy1sb25nLWVub3VnaC1mb3ItaG1hYy1zaGEtMjU2LWtleXM=";
+
+    private final JwtTokenProvider provider = new JwtTokenProvider(SECRET, 60_000L);
+
+    @Test
+    void tokenCarriesEnoughClaimsToRebuildThePrincipal() {
+        UserDetailsImpl principal = new UserDetailsImpl(42L, "ada", "ada@example.org", "hash",
+                List.of(new SimpleGrantedAuthority("ROLE_ORGANIZER")));
+        String token = provider.generateToken(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        Claims claims = provider.parseClaims(token).orElseThrow();
+        UserDetailsImpl rebuilt = provider.toUserDetails(claims).orElseThrow();
+
+        assertThat(rebuilt.getId()).isEqualTo(42L);
+        assertThat(rebuilt.getUsername()).isEqualTo("ada");
+        assertThat(rebuilt.getEmail()).isEqualTo("ada@example.org");
+        assertThat(rebuilt.getPassword()).isNull();
+        assertThat(rebuilt.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ORGANIZER");
+    }
+
+    @Test
+    void tokensWithoutUserClaimsNeedALookup() {
+        String token = provider.generateToken(new UsernamePasswordAuthenticationToken("ada", null, List.of()));
+
+        assertThat(provider.toUserDetails(provider.parseClaims(token).orElseThrow())).isEmpty();
+    }
+
+    @Test
+    void tamperedOrForeignTokensAreRejected() {
+        String token = provider.generateToken(new UsernamePasswordAuthenticationToken("ada", null, List.of()));
+        JwtTokenProvider other = new JwtTokenProvider(
+                "YW5vdGhlci1zZWNyZXQtdGhhdC1pcy1sb25nLWVub3VnaC1mb3ItaG1hYy1zaGEtMjU2", 60_000L);
+
+        assertThat(other.parseClaims(token)).isEmpty();
+        String[] parts = token.split("\\.");
+        String otherPayload = provider.generateToken(new UsernamePasswordAuthenticationToken("eve", null, List.of())).split("\\.")[1];
+        assertThat(provider.parseClaims(parts[0] + "." + otherPayload + "." + parts[2])).isEmpty();
+        assertThat(provider.parseClaims("")).isEmpty();
+    }
+
+    @Test
+    void revocationByTokenIdAndByUserCutoff() {
+        TokenRevocationService revocations = new TokenRevocationService(true, 2, 60_000L);
+        Date future = new Date(System.currentTimeMillis() + 60_000L);
+        Date past = new Date(System.currentTimeMillis() - 1_000L);
+
+        revocations.revokeToken("jti-1", future);
+        assertThat(revocations.isRevoked("jti-1", 1L, past)).isTrue();
+        assertThat(revocations.isRevoked("jti-2", 1L, past)).isFalse();
+
+        revocations.revokeAllForUser(7L);
+        assertThat(revocations.isRevoked("jti-3", 7L, past)).isTrue();
+        assertThat(revocations.isRevoked("jti-3", 7L, future)).isFalse();
+
+        // Bounded and fail-closed: a full store refuses new ids instead of forgetting live ones
+        revocations.revokeToken("jti-2", new Date(System.currentTimeMillis() + 120_000L));
+        assertThatThrownBy(() -> revocations.revokeToken("jti-4", new Date(System.currentTimeMillis() + 180_000L)))
+                .isInstanceOf(ServiceBusyException.class);
+        assertThat(revocations.isRevoked("jti-1", null, null)).isTrue();
+        assertThat(revocations.isRevoked("jti-4", null, null)).isFalse();
+        // Revoking an id again or an already expired token needs no room
+        revocations.revokeToken("jti-2", future);
+        revocations.revokeToken("jti-5", past);
+    }
+
+    @Test
+    void revocationsFreeTheirSlotWhenTheTokenExpires() throws InterruptedException {
+        TokenRevocationService revocations = new TokenRevocationService(true, 1, 60_000L);
+        revocations.revokeToken("short-lived", new Date(System.currentTimeMillis() + 200L));
+        assertThat(revocations.isRevoked("short-lived", null, null)).isTrue();
+
+        Thread.sleep(1_500L); // past the expiry plus one step of the timer wheel
+        revocations.revokeToken("next", new Date(System.currentTimeMillis() + 60_000L));
+        assertThat(revocations.isRevoked("short-lived", null, null)).isFalse();
+        assertThat(revocations.isRevoked("next", null, null)).isTrue();
+    }
+}
@@ -0,0 +1,41 @@
+package com.volunteer.management.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(OutputCaptureExtension.class)
+class RequestSampleLoggingFilterTest {
+
+    @Test
+    void logsSampledRequests(CapturedOutput output) throws Exception {
+        new RequestSampleLoggingFilter(1.0, Duration.ofHours(1))
+                .doFilter(new MockHttpServletRequest("GET", "/api/events"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(output).contains("GET /api/events -> 200 in");
+    }
+
+    @Test
+    void logsSlowRequestsEvenWhenNotSampled(CapturedOutput output) throws Exception {
+        new RequestSampleLoggingFilter(0.0, Duration.ZERO)
+                .doFilter(new MockHttpServletRequest("POST", "/api/registrations"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(output).contains("SLOW POST /api/registrations -> 200 in");
+    }
+
+    @Test
+    void staysQuietForFastUnsampledRequests(CapturedOutput output) throws Exception {
+        new RequestSampleLoggingFilter(0.0, Duration.ofHours(1))
+                .doFilter(new MockHttpServletRequest("GET", "/api/volunteers"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(output).doesNotContain("/api/volunteers");
+    }
+}
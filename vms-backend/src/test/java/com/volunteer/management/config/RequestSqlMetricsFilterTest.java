@@ -0,0 +1,59 @@
+package com.volunteer.management.config;
+
+import com.volunteer.management.support.TestData;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.instrumentation.n-plus-one-threshold=2")
+@AutoConfigureMockMvc
+@ExtendWith(OutputCaptureExtension.class)
+class RequestSqlMetricsFilterTest {
+
+    private static final String HANDLER = "EventController.getEventById";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void cleanUp() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void recordsSqlPerRequestTaggedByHandlerAndFlagsSuspects(CapturedOutput output) throws Exception {
+        Long eventId = testData.event("Instrumented", testData.user("metrics-organizer"), null).getId();
+        entityManagerFactory.getCache().evictAll();
+
+        mockMvc.perform(get("/api/events/{id}", eventId)).andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry.get("vms.request.sql.statements").tag("handler", HANDLER).summary();
+        assertThat(statements.count()).isEqualTo(1);
+        // The event row plus the volunteer and organizer projections
+        assertThat(statements.totalAmount()).isGreaterThanOrEqualTo(3);
+        assertThat(meterRegistry.get("vms.request.entities.loaded").tag("handler", HANDLER).summary().totalAmount())
+                .isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.get("vms.request.sql.time").tag("handler", HANDLER).timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("vms.request.latency").tag("handler", HANDLER).timer().count()).isEqualTo(1);
+        assertThat(output).contains("Possible N+1 in " + HANDLER);
+    }
+}
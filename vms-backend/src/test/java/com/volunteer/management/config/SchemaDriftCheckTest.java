@@ -0,0 +1,94 @@
+package com.volunteer.management.config;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class SchemaDriftCheckTest {
+
+    @Autowired
+    private SchemaDriftCheck driftCheck;
+    @Autowired
+    private Flyway flyway;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void migratedSchemaHasNoDrift() throws Exception {
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(driftCheck.findDrift()).isEmpty();
+    }
+
+    @Test
+    void reportsMissingAndChangedIndexes() throws Exception {
+        jdbcTemplate.execute("drop index idx_event_volunteers_volunteer");
+        jdbcTemplate.execute("drop index idx_waitlist_volunteer");
+        jdbcTemplate.execute("create index idx_waitlist_volunteer on event_waitlist (volunteer_id, event_id)");
+        try {
+            assertThat(driftCheck.findDrift()).containsExactly(
+                    "missing index idx_event_volunteers_volunteer on event_volunteers",
+                    "index idx_waitlist_volunteer is on [volunteer_id, event_id], expected [volunteer_id]");
+            assertThatThrownBy(() -> driftCheck.run(null))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("idx_event_volunteers_volunteer");
+        } finally {
+            jdbcTemplate.execute("create index idx_event_volunteers_volunteer on event_volunteers (volunteer_id, event_id)");
+            jdbcTemplate.execute("drop index idx_waitlist_volunteer");
+            jdbcTemplate.execute("create index idx_waitlist_volunteer on event_waitlist (volunteer_id)");
+        }
+        assertThat(driftCheck.findDrift()).isEmpty();
+    }
+
+    @Test
+    void baselinedDdlAutoDatabaseMigrates() throws Exception {
+        assertMigratesFromBaseline("ddl_auto_original");
+    }
+
+    @Test
+    void baselinedDatabaseUpdatedByLaterEntitiesMigrates() throws Exception {
+        // ddl-auto=update kept running while the backlog added entities, so some of V1_x may exist
+        assertMigratesFromBaseline("ddl_auto_updated",
+                "alter table events add column registered_count integer default 0 not null",
+                script("V1_3__event_waitlist.sql"));
+    }
+
+    // A separate database holding the schema ddl-auto=update created, baselined as in production
+    private void assertMigratesFromBaseline(String database, String... preexisting) throws Exception {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:" + database + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE", "sa", "", true);
+        try {
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            jdbc.execute(script("V1__initial_schema.sql"));
+            for (String sql : preexisting) {
+                jdbc.execute(sql);
+            }
+            Flyway.configure()
+                    .dataSource(dataSource)
+                    .locations("classpath:db/migration")
+                    .baselineOnMigrate(true)
+                    .baselineVersion("1")
+                    .load()
+                    .migrate();
+            assertThat(jdbc.queryForObject("select count(*) from information_schema.tables where table_name in "
+                    + "('event_waitlist', 'volunteer_skills', 'volunteer_availability', 'event_series')", Integer.class))
+                    .isEqualTo(4);
+            assertThat(jdbc.queryForList("select registered_count + version from events")).isEmpty();
+        } finally {
+            dataSource.destroy();
+        }
+    }
+
+    private static String script(String name) throws Exception {
+        return new ClassPathResource("db/migration/" + name).getContentAsString(StandardCharsets.UTF_8);
+    }
+}
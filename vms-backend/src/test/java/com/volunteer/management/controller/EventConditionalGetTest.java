@@ -0,0 +1,118 @@
+package com.volunteer.management.controller;
+
+import com.volunteer.management.dto.UserProfileUpdateDto;
+import com.volunteer.management.entity.Event;
+import com.volunteer.management.entity.User;
+import com.volunteer.management.entity.Volunteer;
+import com.volunteer.management.service.SlotReservationService;
+import com.volunteer.management.service.UserService;
+import com.volunteer.management.support.TestData;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class EventConditionalGetTest {
+
+    private static final String LISTING = "/api/events?size=5";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private SlotReservationService slotReservationService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void cleanUp() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void unchangedEventIsAnswered304WithASingleQuery() throws Exception {
+        Long eventId = testData.event("Stable", testData.user("organizer"), 10).getId();
+        MvcResult first = mockMvc.perform(get("/api/events/{id}", eventId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn();
+        String eTag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).startsWith("\"").endsWith("\"");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long statementsBefore = statistics.getPrepareStatementCount();
+        mockMvc.perform(get("/api/events/{id}", eventId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        assertThat(statistics.getPrepareStatementCount() - statementsBefore).isEqualTo(1);
+    }
+
+    @Test
+    void registrationChangesTheEventETag() throws Exception {
+        Event event = testData.event("Busy", testData.user("organizer"), 10);
+        Volunteer volunteer = testData.volunteer("volunteer");
+        String eTag = eTagOf("/api/events/" + event.getId());
+
+        slotReservationService.reserve(event.getId(), volunteer.getId());
+
+        mockMvc.perform(get("/api/events/{id}", event.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void listingRevalidatesUntilAnEventOnThePageChanges() throws Exception {
+        User organizer = testData.user("organizer");
+        testData.event("First", organizer, 10);
+        String eTag = eTagOf(LISTING);
+        String summaryETag = eTagOf(LISTING + "&view=summary");
+        assertThat(summaryETag).isNotEqualTo(eTag);
+
+        mockMvc.perform(get(LISTING).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        // The organizer's name is shown on every event they organize
+        UserProfileUpdateDto rename = new UserProfileUpdateDto();
+        rename.setName("Renamed organizer");
+        rename.setEmail(organizer.getEmail());
+        userService.updateUserProfile(organizer.getUsername(), rename);
+
+        mockMvc.perform(get(LISTING).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void newEventOnThePageChangesTheListingETag() throws Exception {
+        User organizer = testData.user("organizer");
+        testData.event("First", organizer, 10);
+        String eTag = eTagOf(LISTING);
+
+        testData.event("Second", organizer, 10);
+
+        mockMvc.perform(get(LISTING).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    private String eTagOf(String url) throws Exception {
+        return mockMvc.perform(get(url)).andExpect(status().isOk()).andReturn()
+                .getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
@@ -0,0 +1,102 @@
+package com.volunteer.management.controller;
+
+import com.volunteer.management.config.IdempotencyFilter;
+import com.volunteer.management.config.JwtTokenProvider;
+import com.volunteer.management.entity.Event;
+import com.volunteer.management.entity.User;
+import com.volunteer.management.entity.Volunteer;
+import com.volunteer.management.security.services.UserDetailsImpl;
+import com.volunteer.management.service.AuthService;
+import com.volunteer.management.support.TestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class IdempotencyKeyTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private AuthService authService;
+
+    @AfterEach
+    void cleanUp() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void retriedRegistrationReplaysTheCreatedResponse() throws Exception {
+        Event event = testData.event("Retry drill", testData.user("retry-organizer"), 5);
+        Volunteer volunteer = testData.volunteer("retry-volunteer");
+        String token = tokenFor(volunteer.getUser());
+        String body = "{\"eventId\":" + event.getId() + "}";
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(post("/api/registrations")
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                            .header(IdempotencyFilter.HEADER, "registration-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.status").value("REGISTERED"));
+        }
+        // Without the key the same retry is the usual conflict
+        mockMvc.perform(post("/api/registrations")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isConflict())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void revokedTokenGetsNoReplay() throws Exception {
+        Event event = testData.event("Retry drill", testData.user("revoked-organizer"), 5);
+        Volunteer volunteer = testData.volunteer("revoked-volunteer");
+        String token = tokenFor(volunteer.getUser());
+        String body = "{\"eventId\":" + event.getId() + "}";
+        mockMvc.perform(post("/api/registrations")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .header(IdempotencyFilter.HEADER, "registration-2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated());
+
+        authService.logout(token);
+
+        mockMvc.perform(post("/api/registrations")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .header(IdempotencyFilter.HEADER, "registration-2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    private String tokenFor(User user) {
+        UserDetailsImpl principal = new UserDetailsImpl(user.getId(), user.getUsername(), user.getEmail(), "",
+                List.of(new SimpleGrantedAuthority("ROLE_VOLUNTEER")));
+        return jwtTokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
@@ -0,0 +1,214 @@
+package com.volunteer.management.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.volunteer.management.config.JwtTokenProvider;
+import com.volunteer.management.security.services.UserDetailsImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end load test: boots the whole application on a random port against an
+ * in-memory H2 (PostgreSQL mode), seeds it, and drives three workloads over real HTTP
+ * one after another:
+ *  - browse: GET /api/events, full and summary views, from random start dates
+ *  - login-burst: concurrent POST /api/auth/login with seeded credentials
+ *  - registration-rush: every registrant POSTs /api/registrations for one small event at once
+ *  - skill-search: organizers GET /api/volunteers/search for one to three random skills
+ *
+ * Only runs with -Ploadtest. Volumes come from LoadTestSettings. Absolute numbers on
+ * H2 are not production numbers, but they are comparable between runs of the same machine.
+ *
+ * To compare platform and virtual request threads at high concurrency, run it twice on
+ * Java 21+ and diff the reports (the runtime section records which mode was used):
+ *   mvn -Ploadtest test -Dloadtest.threads=1000
+ *   mvn -Ploadtest test -Dloadtest.threads=1000 -Dspring.threads.virtual.enabled=true
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        // Own database, so the seeded volumes never meet the regular test contexts
+        "spring.datasource.url=jdbc:h2:mem:vms_load;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;LOCK_TIMEOUT=30000",
+        "spring.datasource.hikari.maximum-pool-size=20",
+        // Queue behind the concurrency limiter (when enabled) rather than shed load mid-scenario
+        "app.concurrency-limit.max-wait=60s",
+        "logging.level.com.volunteer.management=WARN"
+})
+class ApiLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiLoadTest.class);
+    private static final Path REPORT = Path.of("target", "loadtest", "report.json");
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private Environment environment;
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    void mixedWorkload() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        LoadTestSeeder.SeedData seed = new LoadTestSeeder(jdbcTemplate)
+                .seed(settings, passwordEncoder.encode(LoadTestSeeder.PASSWORD));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        LoadDriver driver = new LoadDriver(settings.threads(), statistics::getPrepareStatementCount);
+
+        // Warm up JIT, connection pool and caches so the first scenario isn't penalised
+        driver.runFor("warmup", Duration.ofSeconds(3), () -> browse(seed));
+
+        List<ScenarioResult> results = new ArrayList<>();
+        results.add(driver.runFor("browse", settings.browseDuration(), () -> browse(seed)));
+
+        List<LoadDriver.Call> logins = new ArrayList<>();
+        for (int i = 0; i < settings.logins(); i++) {
+            int volunteer = i % seed.volunteers();
+            logins.add(() -> login(seed.volunteerUsername(volunteer)));
+        }
+        results.add(driver.runOnce("login-burst", logins));
+
+        // Tokens are minted up front so the rush measures registration, not login
+        List<LoadDriver.Call> registrations = new ArrayList<>();
+        for (int i = 0; i < settings.rushRegistrants(); i++) {
+            String token = tokenFor(seed, i);
+            registrations.add(() -> register(seed.rushEventId(), token));
+        }
+        ScenarioResult rush = driver.runOnce("registration-rush", registrations);
+        results.add(rush);
+
+        String organizerToken = tokenFor(seed.organizerUserId(0), seed.organizerUsername(0), "ROLE_ORGANIZER");
+        ScenarioResult search = driver.runFor("skill-search", settings.browseDuration(), () -> searchSkills(organizerToken));
+        results.add(search);
+
+        report(settings, seed, results);
+
+        results.forEach(result -> assertThat(result.serverErrors()).as(result.scenario()).isZero());
+        assertThat(rush.count(201)).isEqualTo(settings.rushSlots());
+        assertThat(rush.count(202)).isEqualTo(settings.rushRegistrants() - settings.rushSlots());
+        assertThat(search.count(200)).isEqualTo(search.requests());
+    }
+
+    private int browse(LoadTestSeeder.SeedData seed) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String from = seed.firstStart().plusDays(random.nextInt(seed.daysSpanned()))
+                .format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        String view = random.nextInt(4) == 0 ? "summary" : "full";
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/events?size=20&view=" + view + "&from=" + from))
+                .GET().build();
+        return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private int login(String username) throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of(
+                "usernameOrEmail", username, "password", LoadTestSeeder.PASSWORD));
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private int register(long eventId, String token) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/registrations"))
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + token)
+                .POST(HttpRequest.BodyPublishers.ofString("{\"eventId\":" + eventId + "}"))
+                .build();
+        return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private int searchSkills(String token) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder skills = new StringBuilder();
+        for (int s = 1 + random.nextInt(3); s > 0; s--) {
+            skills.append(skills.isEmpty() ? "" : ",")
+                    .append(LoadTestSeeder.SKILLS[random.nextInt(LoadTestSeeder.SKILLS.length)]);
+        }
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/volunteers/search?size=20&skills="
+                        + URLEncoder.encode(skills.toString(), StandardCharsets.UTF_8)))
+                .header("Authorization", "Bearer " + token)
+                .GET().build();
+        return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private String tokenFor(LoadTestSeeder.SeedData seed, int volunteer) {
+        return tokenFor(seed.volunteerUserId(volunteer), seed.volunteerUsername(volunteer), "ROLE_VOLUNTEER");
+    }
+
+    private String tokenFor(long userId, String username, String role) {
+        UserDetailsImpl principal = new UserDetailsImpl(userId, username,
+                username + "@example.org", "", List.of(new SimpleGrantedAuthority(role)));
+        return jwtTokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private void report(LoadTestSettings settings, LoadTestSeeder.SeedData seed, List<ScenarioResult> results)
+            throws Exception {
+        StringBuilder table = new StringBuilder("\n").append(ScenarioResult.header());
+        results.forEach(result -> table.append('\n').append(result.row()));
+        Map<String, Object> runtime = new LinkedHashMap<>();
+        runtime.put("java", Runtime.version().toString());
+        runtime.put("processors", Runtime.getRuntime().availableProcessors());
+        runtime.put("virtualThreads", environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)
+                && Runtime.version().feature() >= 21);
+        runtime.put("concurrencyLimit", environment.getProperty("app.concurrency-limit.enabled", Boolean.class,
+                environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)));
+        log.warn("Load test ({} volunteers, {} events, {} assignments, {} threads, runtime {}):{}",
+                seed.volunteers(), seed.events(), seed.assignments(), settings.threads(), runtime, table);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("runtime", runtime);
+        report.put("settings", settings);
+        report.put("seed", seed);
+        report.put("scenarios", results);
+        Files.createDirectories(REPORT.getParent());
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(REPORT.toFile(), report);
+    }
+}
@@ -0,0 +1,121 @@
+package com.volunteer.management.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Runs one scenario on a fixed number of worker threads and collects per-call latency,
+ * status codes and the number of SQL statements the server prepared meanwhile.
+ *
+ * Scenarios run one after another, so the statement delta over a scenario can be
+ * attributed to its requests.
+ */
+final class LoadDriver {
+
+    // One HTTP call; returns the response status (or -1 for a transport failure)
+    @FunctionalInterface
+    interface Call {
+        int execute() throws Exception;
+    }
+
+    private final int threads;
+    private final LongSupplier statementCounter;
+
+    LoadDriver(int threads, LongSupplier statementCounter) {
+        this.threads = threads;
+        this.statementCounter = statementCounter;
+    }
+
+    // Every thread repeats the call until the duration has passed
+    ScenarioResult runFor(String name, Duration duration, Call call) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        return run(name, () -> System.nanoTime() < deadline ? call : null);
+    }
+
+    // Each call runs exactly once; all threads start together to model a burst
+    ScenarioResult runOnce(String name, List<Call> calls) throws Exception {
+        Queue<Call> pending = new ConcurrentLinkedQueue<>(calls);
+        return run(name, pending::poll);
+    }
+
+    private interface CallSource {
+        Call next();
+    }
+
+    private ScenarioResult run(String name, CallSource source) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Samples>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    Samples samples = new Samples();
+                    for (Call call = source.next(); call != null; call = source.next()) {
+                        long begin = System.nanoTime();
+                        int status;
+                        try {
+                            status = call.execute();
+                        } catch (Exception ex) {
+                            status = -1;
+                        }
+                        samples.add(System.nanoTime() - begin, status);
+                    }
+                    return samples;
+                }));
+            }
+            long statementsBefore = statementCounter.getAsLong();
+            long begin = System.nanoTime();
+            start.countDown();
+            Samples all = new Samples();
+            for (Future<Samples> future : futures) {
+                all.addAll(future.get(30, TimeUnit.MINUTES));
+            }
+            long wallNanos = System.nanoTime() - begin;
+            return ScenarioResult.of(name, all.latencies(), all.statuses, wallNanos,
+                    statementCounter.getAsLong() - statementsBefore);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static final class Samples {
+        private long[] latencies = new long[1024];
+        private int size;
+        private final Map<Integer, Long> statuses = new TreeMap<>();
+
+        void add(long latencyNanos, int status) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+            statuses.merge(status, 1L, Long::sum);
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.size; i++) {
+                if (size == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, size * 2);
+                }
+                latencies[size++] = other.latencies[i];
+            }
+            other.statuses.forEach((status, count) -> statuses.merge(status, count, Long::sum));
+        }
+
+        long[] latencies() {
+            return Arrays.copyOf(latencies, size);
+        }
+    }
+}
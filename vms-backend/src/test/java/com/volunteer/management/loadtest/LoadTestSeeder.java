@@ -0,0 +1,140 @@
+package com.volunteer.management.loadtest;
+
+import com.volunteer.management.util.SkillTokenizer;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Bulk-loads users, volunteers, events and assignments with plain JDBC batches.
+ *
+ * Rows get explicit ids from ID_BASE upwards so they never collide with identity values
+ * handed out by the application. The random generator is seeded, so the same volumes
+ * always produce the same data set. All seeded users share one password hash: hashing
+ * thousands of BCrypt passwords would dominate the setup time.
+ */
+final class LoadTestSeeder {
+
+    static final long ID_BASE = 1_000_000L;
+    static final String PASSWORD = "load-test-password";
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final String[] LOCATIONS = {
+            "Amsterdam", "Berlin", "Chicago", "Delhi", "Dublin", "Lisbon", "London", "Madrid", "Mumbai", "Nairobi",
+            "New York", "Oslo", "Paris", "Prague", "Rome", "Seoul", "Sydney", "Tokyo", "Toronto", "Vienna"};
+    static final String[] SKILLS = {
+            "First Aid", "Logistics", "Driving", "Cooking", "Teaching", "Spanish", "French", "Sign Language",
+            "Photography", "Carpentry", "Event Setup", "Fundraising", "Social Media", "Tutoring", "Gardening",
+            "Elderly Care", "Childcare", "IT Support", "Translation", "Crowd Control", "Music", "Accounting",
+            "Counselling", "Plumbing"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random = new Random(42);
+
+    LoadTestSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    record SeedData(int volunteers, int organizers, int events, long assignments, long rushEventId,
+                    LocalDateTime firstStart, int daysSpanned) {
+
+        long volunteerUserId(int index) {
+            return ID_BASE + index;
+        }
+
+        String volunteerUsername(int index) {
+            return "lt-volunteer-" + index;
+        }
+
+        long organizerUserId(int index) {
+            return ID_BASE + volunteers + index;
+        }
+
+        String organizerUsername(int index) {
+            return "lt-organizer-" + index;
+        }
+    }
+
+    SeedData seed(LoadTestSettings settings, String passwordHash) {
+        int volunteers = settings.volunteers();
+        int organizers = Math.max(1, settings.events() / 50);
+        long volunteerRole = roleId("ROLE_VOLUNTEER");
+        long organizerRole = roleId("ROLE_ORGANIZER");
+
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> userRoles = new ArrayList<>();
+        List<Object[]> volunteerRows = new ArrayList<>();
+        List<Object[]> skillRows = new ArrayList<>();
+        for (int i = 0; i < volunteers; i++) {
+            long id = ID_BASE + i;
+            users.add(new Object[]{id, "Volunteer " + i, "lt-volunteer-" + i, "lt-volunteer-" + i + "@example.org", passwordHash});
+            userRoles.add(new Object[]{id, volunteerRole});
+            // One to four skills each; the volunteer_skills rows mirror what Volunteer.setSkills would write
+            StringBuilder skills = new StringBuilder();
+            for (int s = 1 + random.nextInt(4); s > 0; s--) {
+                skills.append(skills.isEmpty() ? "" : ", ").append(SKILLS[random.nextInt(SKILLS.length)]);
+            }
+            volunteerRows.add(new Object[]{id, id, "555-" + (1000 + i % 9000), skills.toString(), "weekends"});
+            for (String token : SkillTokenizer.tokenize(skills.toString())) {
+                skillRows.add(new Object[]{id, token});
+            }
+        }
+        for (int j = 0; j < organizers; j++) {
+            long id = ID_BASE + volunteers + j;
+            users.add(new Object[]{id, "Organizer " + j, "lt-organizer-" + j, "lt-organizer-" + j + "@example.org", passwordHash});
+            userRoles.add(new Object[]{id, organizerRole});
+        }
+        batch("insert into users (id, name, username, email, password) values (?, ?, ?, ?, ?)", users);
+        batch("insert into user_roles (user_id, role_id) values (?, ?)", userRoles);
+        batch("insert into volunteers (id, user_id, phone_number, skills, availability) values (?, ?, ?, ?, ?)", volunteerRows);
+        batch("insert into volunteer_skills (volunteer_id, skill) values (?, ?)", skillRows);
+
+        LocalDateTime firstStart = LocalDateTime.now().withNano(0).plusDays(1);
+        int days = 365;
+        List<Object[]> events = new ArrayList<>();
+        List<Object[]> assignments = new ArrayList<>();
+        List<Integer> volunteerIndexes = IntStream.range(0, volunteers).boxed().collect(Collectors.toList());
+        for (int k = 0; k < settings.events(); k++) {
+            long id = ID_BASE + k;
+            int slots = 10 + random.nextInt(41);
+            // Roughly half the events end up full, the rest partly booked
+            int registered = Math.min(volunteers, random.nextBoolean() ? slots : random.nextInt(slots));
+            LocalDateTime start = firstStart.plusMinutes(random.nextInt(days * 24 * 60));
+            events.add(new Object[]{id, "Event " + k, "Seeded by the load test", LOCATIONS[k % LOCATIONS.length],
+                    Timestamp.valueOf(start), Timestamp.valueOf(start.plusHours(3)), slots, registered,
+                    ID_BASE + volunteers + (k % organizers)});
+            Collections.shuffle(volunteerIndexes, random);
+            for (int v = 0; v < registered; v++) {
+                assignments.add(new Object[]{id, ID_BASE + volunteerIndexes.get(v)});
+            }
+        }
+        // The rush target: plenty of demand, few slots, nobody registered yet
+        long rushEventId = ID_BASE + settings.events();
+        LocalDateTime rushStart = firstStart.plusDays(7);
+        events.add(new Object[]{rushEventId, "Registration rush", "Seeded by the load test", "Lisbon",
+                Timestamp.valueOf(rushStart), Timestamp.valueOf(rushStart.plusHours(3)), settings.rushSlots(), 0,
+                ID_BASE + volunteers});
+        batch("insert into events (id, name, description, location, start_date_time, end_date_time, " +
+                "slots_available, registered_count, organizer_user_id) values (?, ?, ?, ?, ?, ?, ?, ?, ?)", events);
+        batch("insert into event_volunteers (event_id, volunteer_id) values (?, ?)", assignments);
+
+        return new SeedData(volunteers, organizers, settings.events(), assignments.size(), rushEventId, firstStart, days);
+    }
+
+    private long roleId(String name) {
+        return jdbcTemplate.queryForObject("select id from roles where name = ?", Long.class, name);
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)));
+        }
+    }
+}
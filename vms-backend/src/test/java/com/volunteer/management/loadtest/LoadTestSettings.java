@@ -0,0 +1,23 @@
+package com.volunteer.management.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Volumes and concurrency for ApiLoadTest, overridable with -Dloadtest.* system properties
+ * (Surefire passes them through from the mvn command line).
+ */
+record LoadTestSettings(int volunteers, int events, int threads, Duration browseDuration,
+                        int logins, int rushSlots, int rushRegistrants) {
+
+    static LoadTestSettings fromSystemProperties() {
+        int volunteers = Integer.getInteger("loadtest.volunteers", 2_000);
+        return new LoadTestSettings(
+                volunteers,
+                Integer.getInteger("loadtest.events", 2_000),
+                Integer.getInteger("loadtest.threads", 32),
+                Duration.ofSeconds(Integer.getInteger("loadtest.browse-seconds", 20)),
+                Integer.getInteger("loadtest.logins", 200),
+                Integer.getInteger("loadtest.rush-slots", 50),
+                Math.min(volunteers, Integer.getInteger("loadtest.rush-registrants", 1_000)));
+    }
+}
@@ -0,0 +1,58 @@
+package com.volunteer.management.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Summary of one load scenario. Latencies are client-side (request sent to body read),
+ * in milliseconds; sqlPerRequest is Hibernate's prepared-statement count over the
+ * scenario divided by the number of requests.
+ */
+record ScenarioResult(String scenario, long requests, Map<Integer, Long> statuses, double seconds,
+                      double throughput, double p50Ms, double p90Ms, double p99Ms, double maxMs,
+                      double sqlPerRequest) {
+
+    static ScenarioResult of(String scenario, long[] latencyNanos, Map<Integer, Long> statuses,
+                             long wallNanos, long statements) {
+        long[] sorted = latencyNanos.clone();
+        Arrays.sort(sorted);
+        int n = sorted.length;
+        double seconds = wallNanos / 1e9;
+        return new ScenarioResult(scenario, n, statuses, seconds,
+                n / seconds,
+                percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99),
+                n == 0 ? 0 : sorted[n - 1] / 1e6,
+                n == 0 ? 0 : (double) statements / n);
+    }
+
+    long count(int status) {
+        return statuses.getOrDefault(status, 0L);
+    }
+
+    // 503 is deliberate load shedding (it carries Retry-After), so it is not counted here
+    long serverErrors() {
+        return statuses.entrySet().stream()
+                .filter(e -> e.getKey() < 0 || (e.getKey() >= 500 && e.getKey() != 503))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+
+    static String header() {
+        return String.format("%-18s %8s %9s %9s %9s %9s %9s %8s  %s",
+                "scenario", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms", "sql/req", "statuses");
+    }
+
+    String row() {
+        return String.format("%-18s %8d %9.1f %9.2f %9.2f %9.2f %9.2f %8.2f  %s",
+                scenario, requests, throughput, p50Ms, p90Ms, p99Ms, maxMs, sqlPerRequest, statuses);
+    }
+
+    // Nearest-rank percentile over sorted nanos, in ms
+    private static double percentile(long[] sorted, int pct) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(pct / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1e6;
+    }
+}
@@ -0,0 +1,53 @@
+package com.volunteer.management.security.services;
+
+import com.volunteer.management.exception.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordWorkExecutorTest {
+
+    @Test
+    void rejectsWithRetryAfterOnceThePoolAndQueueAreFull() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PasswordWorkExecutor executor = new PasswordWorkExecutor(registry, 1, 1, 3);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            CompletableFuture<String> running = executor.submit("login", () -> await(release, "first"));
+            CompletableFuture<String> queued = executor.submit("login", () -> await(release, "second"));
+
+            // Wait until the first task is actually on the worker so the queue holds exactly one
+            while (registry.get("executor.active").gauge().value() < 1) {
+                Thread.sleep(5);
+            }
+
+            assertThatThrownBy(() -> executor.submit("login", () -> "third"))
+                    .isInstanceOf(ServiceBusyException.class)
+                    .satisfies(ex -> assertThat(((ServiceBusyException) ex).getRetryAfterSeconds()).isEqualTo(3));
+            assertThat(registry.get("auth.password.rejected").counter().count()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+            assertThat(registry.get("auth.password.work").tag("operation", "login").timer().count()).isEqualTo(2);
+        } finally {
+            release.countDown();
+            executor.destroy();
+        }
+    }
+
+    private static String await(CountDownLatch latch, String value) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
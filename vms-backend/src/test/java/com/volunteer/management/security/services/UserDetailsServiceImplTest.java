@@ -0,0 +1,122 @@
+package com.volunteer.management.security.services;
+
+import com.volunteer.management.config.JwtTokenProvider;
+import com.volunteer.management.dto.UserProfileUpdateDto;
+import com.volunteer.management.entity.User;
+import com.volunteer.management.repository.UserRepository;
+import com.volunteer.management.service.UserService;
+import com.volunteer.management.support.TestData;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class UserDetailsServiceImplTest {
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private AuthenticationManager authenticationManager;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @AfterEach
+    void cleanUp() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void usernameAndEmailShareOneCachedEntry() {
+        testData.user("grace", "grace@example.org");
+        double hitsBefore = gets("hit");
+        double missesBefore = gets("miss");
+
+        UserDetailsImpl byUsername = (UserDetailsImpl) userDetailsService.loadUserByUsername("grace");
+        UserDetailsImpl byEmail = (UserDetailsImpl) userDetailsService.loadUserByUsername("grace@example.org");
+
+        assertThat(byEmail).isSameAs(byUsername);
+        assertThat(gets("miss") - missesBefore).isEqualTo(1);
+        assertThat(gets("hit") - hitsBefore).isEqualTo(1);
+    }
+
+    @Test
+    void emailChangeEvictsTheCachedUser() {
+        testData.user("linus", "linus@example.org");
+        userDetailsService.loadUserByUsername("linus@example.org");
+
+        UserProfileUpdateDto update = new UserProfileUpdateDto();
+        update.setName("Linus");
+        update.setEmail("linus@kernel.example.org");
+        userService.updateUserProfile("linus", update);
+
+        assertThatThrownBy(() -> userDetailsService.loadUserByUsername("linus@example.org"))
+                .isInstanceOf(UsernameNotFoundException.class);
+        UserDetailsImpl reloaded = (UserDetailsImpl) userDetailsService.loadUserByUsername("linus");
+        assertThat(reloaded.getEmail()).isEqualTo("linus@kernel.example.org");
+    }
+
+    @Test
+    void emailChangeRevokesTokensCarryingTheOldEmail() {
+        testData.user("ken", "ken@example.org");
+        UserDetailsImpl details = (UserDetailsImpl) userDetailsService.loadUserByUsername("ken");
+        Claims claims = jwtTokenProvider.parseClaims(jwtTokenProvider.generateToken(
+                new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities()))).orElseThrow();
+        assertThat(isRevoked(claims)).isFalse();
+
+        UserProfileUpdateDto update = new UserProfileUpdateDto();
+        update.setName("Ken");
+        update.setEmail("ken@unix.example.org");
+        userService.updateUserProfile("ken", update);
+
+        assertThat(isRevoked(claims)).isTrue();
+    }
+
+    @Test
+    void loginUpgradesAWeakerPasswordHash() {
+        User user = new User();
+        user.setName("ada");
+        user.setUsername("ada");
+        user.setEmail("ada@example.org");
+        user.setPassword(new BCryptPasswordEncoder(4).encode("analytical"));
+        userRepository.save(user);
+
+        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken("ada", "analytical"));
+
+        String stored = userRepository.findByUsername("ada").orElseThrow().getPassword();
+        assertThat(stored).startsWith("$2a$10$");
+        assertThat(passwordEncoder.matches("analytical", stored)).isTrue();
+    }
+
+    private boolean isRevoked(Claims claims) {
+        return tokenRevocationService.isRevoked(claims.getId(),
+                claims.get(JwtTokenProvider.CLAIM_USER_ID, Long.class), claims.getIssuedAt());
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "userDetails").tag("result", result)
+                .functionCounter().count();
+    }
+}
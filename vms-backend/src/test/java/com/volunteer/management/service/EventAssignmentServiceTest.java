@@ -0,0 +1,133 @@
+package com.volunteer.management.service;
+
+import com.volunteer.management.dto.EventAssignmentRequest;
+import com.volunteer.management.dto.EventAssignmentResultDto;
+import com.volunteer.management.entity.Event;
+import com.volunteer.management.exception.ApiException;
+import com.volunteer.management.exception.ResourceNotFoundException;
+import com.volunteer.management.repository.EventRepository;
+import com.volunteer.management.repository.WaitlistRepository;
+import com.volunteer.management.support.TestData;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class EventAssignmentServiceTest {
+
+    @Autowired
+    private EventAssignmentService assignmentService;
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private WaitlistService waitlistService;
+    @Autowired
+    private SlotReservationService slotReservationService;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private WaitlistRepository waitlistRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void cleanUp() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void staffsALargeEventInAFixedNumberOfStatements() {
+        Event event = testData.event("big", testData.user("big-organizer"), null);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            ids.add(testData.volunteer("staff" + i).getId());
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        EventAssignmentResultDto result = assignmentService.applyAssignments(event.getId(), new EventAssignmentRequest(ids, null));
+
+        assertThat(result.assigned()).containsExactlyElementsOf(ids);
+        assertThat(result.registeredCount()).isEqualTo(200);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+        assertThat(rosterSize(event.getId())).isEqualTo(200);
+        assertThat(eventRepository.findRegisteredCount(event.getId())).isEqualTo(200);
+    }
+
+    @Test
+    void reportsEveryIdAndStopsAtCapacity() {
+        Event event = testData.event("small", testData.user("small-organizer"), 3);
+        Long onRoster = testData.volunteer("on-roster").getId();
+        slotReservationService.reserve(event.getId(), onRoster);
+        Long first = testData.volunteer("first").getId();
+        Long second = testData.volunteer("second").getId();
+        Long third = testData.volunteer("third").getId();
+        Long notOnRoster = testData.volunteer("not-on-roster").getId();
+
+        EventAssignmentResultDto result = assignmentService.applyAssignments(event.getId(), new EventAssignmentRequest(
+                List.of(first, onRoster, -1L, second, third, first), List.of(notOnRoster)));
+
+        assertThat(result.assigned()).containsExactly(first, second);
+        assertThat(result.alreadyAssigned()).containsExactly(onRoster);
+        assertThat(result.unknownVolunteers()).containsExactly(-1L);
+        assertThat(result.overCapacity()).containsExactly(third);
+        assertThat(result.notAssigned()).containsExactly(notOnRoster);
+        assertThat(result.unassigned()).isEmpty();
+        assertThat(result.registeredCount()).isEqualTo(3);
+        assertThat(rosterSize(event.getId())).isEqualTo(3);
+    }
+
+    @Test
+    void unassignmentsFreeSlotsForTheSameRequestThenTheWaitlist() {
+        Event event = testData.event("swap", testData.user("swap-organizer"), 2);
+        Long leaving = testData.volunteer("leaving").getId();
+        Long alsoLeaving = testData.volunteer("also-leaving").getId();
+        Long joining = testData.volunteer("joining").getId();
+        Long waiting = testData.volunteer("waiting").getId();
+        slotReservationService.reserve(event.getId(), leaving);
+        slotReservationService.reserve(event.getId(), alsoLeaving);
+        waitlistService.enqueue(event.getId(), waiting);
+
+        EventAssignmentResultDto result = assignmentService.applyAssignments(event.getId(),
+                new EventAssignmentRequest(List.of(joining), List.of(leaving, alsoLeaving)));
+
+        assertThat(result.unassigned()).containsExactly(leaving, alsoLeaving);
+        assertThat(result.assigned()).containsExactly(joining);
+        assertThat(result.promotedFromWaitlist()).isEqualTo(1);
+        assertThat(result.registeredCount()).isEqualTo(2);
+        assertThat(eventRepository.findRegisteredCount(event.getId())).isEqualTo(2);
+        assertThat(waitlistRepository.count()).isZero();
+    }
+
+    @Test
+    void rejectsContradictoryOrEmptyRequests() {
+        Event event = testData.event("strict", testData.user("strict-organizer"), 5);
+        Long volunteer = testData.volunteer("both-ways").getId();
+
+        assertThatThrownBy(() -> assignmentService.applyAssignments(event.getId(),
+                new EventAssignmentRequest(List.of(volunteer), List.of(volunteer))))
+                .isInstanceOf(ApiException.class);
+        assertThatThrownBy(() -> assignmentService.applyAssignments(event.getId(), new EventAssignmentRequest(null, List.of())))
+                .isInstanceOf(ApiException.class);
+        assertThatThrownBy(() -> assignmentService.applyAssignments(-1L, new EventAssignmentRequest(List.of(volunteer), null)))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(rosterSize(event.getId())).isZero();
+    }
+
+    private int rosterSize(Long eventId) {
+        return jdbcTemplate.queryForObject("select count(*) from event_volunteers where event_id = ?", Integer.class, eventId);
+    }
+}
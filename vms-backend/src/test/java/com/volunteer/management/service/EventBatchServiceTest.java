@@ -0,0 +1,122 @@
+package com.volunteer.management.service;
+
+import com.volunteer.management.dto.EventBatchResultDto;
+import com.volunteer.management.dto.EventDto;
+import com.volunteer.management.entity.User;
+import com.volunteer.management.exception.ApiException;
+import com.volunteer.management.repository.EventRepository;
+import com.volunteer.management.support.TestData;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class EventBatchServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.now().plusDays(7).withNano(0);
+
+    @Autowired
+    private EventBatchService batchService;
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void cleanUp() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void insertsInJdbcBatchesWithSequenceIds() {
+        User organizer = testData.user("season-organizer");
+        List<EventDto> events = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            events.add(event("Match day " + i, START.plusDays(i)));
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        EventBatchResultDto result = batchService.createEvents(events, organizer);
+
+        assertThat(result.created()).isEqualTo(120);
+        assertThat(result.rejected()).isZero();
+        assertThat(result.items()).extracting(EventBatchResultDto.Item::id).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+        // Three batched INSERTs plus three nextval calls for 50-id blocks, not 120 + 120
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(8);
+        assertThat(eventRepository.findByOrganizer(organizer)).hasSize(120);
+    }
+
+    @Test
+    void reportsInvalidAndDuplicateItemsAndCreatesTheRest() {
+        User organizer = testData.user("mixed-organizer");
+        EventDto endsBeforeStart = event("Backwards", START);
+        endsBeforeStart.setEndDateTime(START.minusHours(1));
+
+        EventBatchResultDto result = batchService.createEvents(List.of(
+                event("Opening", START),
+                event(" ", START),
+                endsBeforeStart,
+                event("Opening", START),
+                event("Opening", START.plusDays(1))), organizer);
+
+        assertThat(result.created()).isEqualTo(2);
+        assertThat(result.rejected()).isEqualTo(3);
+        assertThat(result.items()).extracting(EventBatchResultDto.Item::status).containsExactly(
+                EventBatchResultDto.Status.CREATED, EventBatchResultDto.Status.REJECTED, EventBatchResultDto.Status.REJECTED,
+                EventBatchResultDto.Status.REJECTED, EventBatchResultDto.Status.CREATED);
+        assertThat(result.items().get(1).errors()).containsExactly("Event name cannot be blank");
+        assertThat(result.items().get(2).errors()).containsExactly("End date/time must be after start date/time");
+        assertThat(result.items().get(3).errors()).containsExactly("Duplicate of event 0 in this batch");
+        assertThat(eventRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void plainSqlInsertsDrawFromTheSameSequence() {
+        User organizer = testData.user("sql-organizer");
+        jdbcTemplate.update("insert into events (name, start_date_time, end_date_time, organizer_user_id) values (?, ?, ?, ?)",
+                "Inserted with SQL", START, START.plusHours(2), organizer.getId());
+
+        EventBatchResultDto result = batchService.createEvents(List.of(event("Inserted by Hibernate", START)), organizer);
+
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(eventRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsEmptyAndOversizedBatches() {
+        User organizer = testData.user("limits-organizer");
+        assertThatThrownBy(() -> batchService.createEvents(List.of(), organizer)).isInstanceOf(ApiException.class);
+        assertThatThrownBy(() -> batchService.createEvents(
+                Collections.nCopies(EventBatchService.MAX_EVENTS + 1, event("Too many", START)), organizer))
+                .isInstanceOf(ApiException.class);
+    }
+
+    private static EventDto event(String name, LocalDateTime start) {
+        EventDto dto = new EventDto();
+        dto.setName(name);
+        dto.setLocation("Stadium");
+        dto.setStartDateTime(start);
+        dto.setEndDateTime(start.plusHours(2));
+        dto.setSlotsAvailable(10);
+        return dto;
+    }
+}
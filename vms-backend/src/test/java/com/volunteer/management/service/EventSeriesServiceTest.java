@@ -0,0 +1,145 @@
+package com.volunteer.management.service;
+
+import com.volunteer.management.dto.EventDto;
+import com.volunteer.management.dto.EventOccurrenceDto;
+import com.volunteer.management.dto.EventSeriesDto;
+import com.volunteer.management.dto.RegistrationResultDto;
+import com.volunteer.management.entity.Volunteer;
+import com.volunteer.management.exception.ApiException;
+import com.volunteer.management.exception.ResourceNotFoundException;
+import com.volunteer.management.repository.EventRepository;
+import com.volunteer.management.support.TestData;
+import com.volunteer.management.util.RecurrenceRule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class EventSeriesServiceTest {
+
+    // A Saturday morning shift, starting next week
+    private static final LocalDateTime FIRST_START = LocalDateTime.now().plusWeeks(1)
+            .with(TemporalAdjusters.nextOrSame(DayOfWeek.SATURDAY)).withHour(9).withMinute(0).withSecond(0).withNano(0);
+
+    @Autowired
+    private EventSeriesService seriesService;
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private EventRepository eventRepository;
+
+    @AfterEach
+    void cleanUp() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void listsAYearOfOccurrencesWithoutStoringThem() {
+        EventSeriesDto series = createWeekly("weekly-organizer", "FREQ=WEEKLY;BYDAY=SA");
+
+        List<EventOccurrenceDto> year = seriesService.getOccurrences(series.getId(), FIRST_START, FIRST_START.plusDays(365));
+
+        assertThat(year).hasSize(53);
+        assertThat(year).allMatch(occurrence -> !occurrence.materialized() && occurrence.eventId() == null);
+        assertThat(year.get(1).startDateTime()).isEqualTo(FIRST_START.plusWeeks(1));
+        assertThat(year.get(0).endDateTime()).isEqualTo(FIRST_START.plusHours(3));
+        assertThat(eventRepository.count()).isZero();
+    }
+
+    @Test
+    void registrationMaterializesTheOccurrenceOnce() {
+        EventSeriesDto series = createWeekly("shift-organizer", "FREQ=WEEKLY;BYDAY=SA;COUNT=10");
+        LocalDateTime third = FIRST_START.plusWeeks(2);
+        Volunteer first = testData.volunteer("first-volunteer");
+        Volunteer second = testData.volunteer("second-volunteer");
+
+        RegistrationResultDto registered = seriesService.registerForOccurrence(series.getId(), third, first.getUser().getId());
+        RegistrationResultDto waitlisted = seriesService.registerForOccurrence(series.getId(), third, second.getUser().getId());
+
+        assertThat(registered.status()).isEqualTo(RegistrationResultDto.Status.REGISTERED);
+        assertThat(waitlisted.status()).isEqualTo(RegistrationResultDto.Status.WAITLISTED);
+        assertThat(waitlisted.eventId()).isEqualTo(registered.eventId());
+        assertThat(seriesService.materialize(series.getId(), third)).isEqualTo(registered.eventId());
+        assertThat(eventRepository.count()).isEqualTo(1);
+
+        List<EventOccurrenceDto> occurrences = seriesService.getOccurrences(series.getId(), FIRST_START, FIRST_START.plusDays(365));
+        assertThat(occurrences).hasSize(10);
+        assertThat(occurrences.get(2).eventId()).isEqualTo(registered.eventId());
+        assertThat(occurrences.get(2).registeredCount()).isEqualTo(1);
+        assertThat(occurrences).filteredOn(EventOccurrenceDto::materialized).hasSize(1);
+    }
+
+    @Test
+    void editedOccurrenceKeepsItsSlotAndShowsTheNewTimes() {
+        EventSeriesDto series = createWeekly("edit-organizer", "FREQ=WEEKLY;BYDAY=SA");
+        EventDto moved = new EventDto();
+        moved.setName("Saturday shift (afternoon)");
+        moved.setStartDateTime(FIRST_START.plusHours(4));
+        moved.setEndDateTime(FIRST_START.plusHours(7));
+        moved.setSlotsAvailable(5);
+
+        EventDto updated = seriesService.updateOccurrence(series.getId(), FIRST_START, moved);
+
+        EventOccurrenceDto occurrence = seriesService.getOccurrences(series.getId(), FIRST_START, FIRST_START.plusWeeks(2)).get(0);
+        assertThat(occurrence.occurrenceStart()).isEqualTo(FIRST_START);
+        assertThat(occurrence.eventId()).isEqualTo(updated.getId());
+        assertThat(occurrence.startDateTime()).isEqualTo(FIRST_START.plusHours(4));
+        assertThat(occurrence.slotsAvailable()).isEqualTo(5);
+        assertThat(seriesService.materialize(series.getId(), FIRST_START)).isEqualTo(updated.getId());
+    }
+
+    @Test
+    void rejectsInvalidRulesAndUnknownOccurrences() {
+        assertThatThrownBy(() -> createWeekly("bad-rule-organizer", "FREQ=MONTHLY"))
+                .isInstanceOf(ApiException.class);
+        EventSeriesDto series = createWeekly("strict-organizer", "FREQ=WEEKLY;BYDAY=SA");
+
+        assertThatThrownBy(() -> seriesService.materialize(series.getId(), FIRST_START.plusDays(1)))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> seriesService.getOccurrences(series.getId(), FIRST_START, FIRST_START.plusDays(400)))
+                .isInstanceOf(ApiException.class);
+        assertThat(eventRepository.count()).isZero();
+    }
+
+    @Test
+    void expandsWindowsFarFromTheFirstOccurrence() {
+        LocalDateTime monday = LocalDateTime.of(2026, 1, 5, 18, 0);
+        RecurrenceRule rule = RecurrenceRule.parse("freq=weekly;interval=2;byday=mo,th;count=6");
+
+        assertThat(rule.between(monday, monday, monday.plusYears(1), 100))
+                .extracting(RecurrenceRule.Occurrence::start)
+                .containsExactly(monday, monday.plusDays(3), monday.plusWeeks(2), monday.plusWeeks(2).plusDays(3),
+                        monday.plusWeeks(4), monday.plusWeeks(4).plusDays(3));
+        assertThat(rule.between(monday, monday.plusWeeks(3), monday.plusYears(1), 100))
+                .extracting(RecurrenceRule.Occurrence::index)
+                .containsExactly(4L, 5L);
+
+        RecurrenceRule daily = RecurrenceRule.parse("FREQ=DAILY;UNTIL=20360110");
+        assertThat(daily.between(monday, LocalDateTime.of(2036, 1, 8, 0, 0), LocalDateTime.of(2037, 1, 1, 0, 0), 100))
+                .extracting(RecurrenceRule.Occurrence::start)
+                .containsExactly(LocalDateTime.of(2036, 1, 8, 18, 0), LocalDateTime.of(2036, 1, 9, 18, 0),
+                        LocalDateTime.of(2036, 1, 10, 18, 0));
+        assertThat(daily.isOccurrence(monday, LocalDateTime.of(2030, 6, 1, 18, 0))).isTrue();
+        assertThat(daily.isOccurrence(monday, LocalDateTime.of(2030, 6, 1, 17, 0))).isFalse();
+    }
+
+    private EventSeriesDto createWeekly(String organizerName, String rule) {
+        EventSeriesDto dto = new EventSeriesDto();
+        dto.setName("Saturday shift");
+        dto.setLocation("Food bank");
+        dto.setFirstStart(FIRST_START);
+        dto.setDurationMinutes(180);
+        dto.setRecurrenceRule(rule);
+        dto.setSlotsAvailable(1);
+        return seriesService.createSeries(dto, testData.user(organizerName));
+    }
+}
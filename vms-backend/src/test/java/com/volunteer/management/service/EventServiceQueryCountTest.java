@@ -0,0 +1,140 @@
+package com.volunteer.management.service;
+
+import com.volunteer.management.dto.CursorPageDto;
+import com.volunteer.management.dto.EventDto;
+import com.volunteer.management.dto.EventFilter;
+import com.volunteer.management.dto.EventOverviewDto;
+import com.volunteer.management.entity.Event;
+import com.volunteer.management.entity.User;
+import com.volunteer.management.entity.Volunteer;
+import com.volunteer.management.repository.EventRepository;
+import com.volunteer.management.repository.VolunteerRepository;
+import com.volunteer.management.support.TestData;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Guards against N+1 regressions in the event read paths: the number of SQL
+// statements for a listing must not depend on how many events/volunteers exist.
+@SpringBootTest
+class EventServiceQueryCountTest {
+
+    @Autowired
+    private EventService eventService;
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private VolunteerRepository volunteerRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private int userSeq;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void listingStatementCountDoesNotGrowWithData() {
+        User organizer = testData.user("user" + ++userSeq);
+        seedEvents(organizer, 2, 1);
+        long small = countStatements(() -> eventService.getEvents(new EventFilter(), null, 100));
+
+        seedEvents(organizer, 25, 8);
+        AtomicReference<CursorPageDto<EventDto>> page = new AtomicReference<>();
+        long large = countStatements(() -> page.updateAndGet(p -> eventService.getEvents(new EventFilter(), null, 100)));
+
+        assertThat(page.get().getItems()).hasSize(27);
+        assertThat(page.get().getItems()).allSatisfy(dto -> {
+            assertThat(dto.getOrganizerName()).isEqualTo(organizer.getName());
+            assertThat(dto.getAssignedVolunteers()).allSatisfy(v -> assertThat(v.getEmail()).contains("@"));
+        });
+        assertThat(large).isEqualTo(small);
+        // page query + volunteer projection + organizer projection
+        assertThat(large).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void eventByIdUsesBoundedStatements() {
+        User organizer = testData.user("user" + ++userSeq);
+        Event event = seedEvents(organizer, 1, 30);
+
+        AtomicReference<EventDto> dto = new AtomicReference<>();
+        long statements = countStatements(() -> dto.updateAndGet(d -> eventService.getEventById(event.getId())));
+
+        assertThat(dto.get().getAssignedVolunteers()).hasSize(30);
+        assertThat(statements).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void overviewsAreASingleProjectionQuery() {
+        User organizer = testData.user("user" + ++userSeq);
+        seedEvents(organizer, 12, 3);
+
+        AtomicReference<CursorPageDto<EventOverviewDto>> page = new AtomicReference<>();
+        long statements = countStatements(() -> page.updateAndGet(p -> eventService.getEventOverviews(new EventFilter(), null, 5)));
+
+        assertThat(statements).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(page.get().getItems()).hasSize(5);
+        assertThat(page.get().isHasMore()).isTrue();
+        assertThat(page.get().getItems()).allSatisfy(row -> {
+            assertThat(row.registeredCount()).isEqualTo(3);
+            assertThat(row.remainingSlots()).isEqualTo(5);
+        });
+
+        // Following the cursor continues exactly where the first page stopped
+        CursorPageDto<EventOverviewDto> next = eventService.getEventOverviews(new EventFilter(), page.get().getNextCursor(), 100);
+        assertThat(next.getItems()).hasSize(7);
+        assertThat(next.isHasMore()).isFalse();
+        assertThat(next.getItems().get(0).startDateTime()).isAfter(page.get().getItems().get(4).startDateTime());
+    }
+
+    private long countStatements(Supplier<?> action) {
+        statistics.clear();
+        action.get();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Event seedEvents(User organizer, int events, int volunteersPerEvent) {
+        Event last = null;
+        for (int i = 0; i < events; i++) {
+            Event event = new Event();
+            event.setName("Event " + i);
+            event.setLocation("Hall " + i);
+            event.setStartDateTime(LocalDateTime.now().plusDays(i + 1));
+            event.setEndDateTime(LocalDateTime.now().plusDays(i + 1).plusHours(2));
+            event.setSlotsAvailable(volunteersPerEvent + 5);
+            event.setOrganizer(organizer);
+            for (int v = 0; v < volunteersPerEvent; v++) {
+                Volunteer volunteer = new Volunteer();
+                volunteer.setUser(testData.user("user" + ++userSeq));
+                volunteer.setSkills("first aid");
+                event.getAssignedVolunteers().add(volunteerRepository.save(volunteer));
+            }
+            event.setRegisteredCount(volunteersPerEvent);
+            last = eventRepository.save(event);
+        }
+        return last;
+    }
+}
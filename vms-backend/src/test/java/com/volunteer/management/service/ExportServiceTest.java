@@ -0,0 +1,132 @@
+package com.volunteer.management.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.volunteer.management.entity.User;
+import com.volunteer.management.entity.Volunteer;
+import com.volunteer.management.repository.EventRepository;
+import com.volunteer.management.repository.VolunteerRepository;
+import com.volunteer.management.support.TestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ExportServiceTest {
+
+    @Autowired
+    private ExportService exportService;
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private VolunteerRepository volunteerRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private MockMvc mockMvc;
+
+    @AfterEach
+    void cleanUp() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void volunteersAsNdjsonOneObjectPerLine() throws Exception {
+        saveVolunteer("ada", "first aid");
+        saveVolunteer("bob", "logistics");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThat(exportService.exportVolunteers(ExportService.Format.NDJSON, out)).isEqualTo(2);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("name").asText()).isEqualTo("ada");
+        assertThat(first.get("skills").asText()).isEqualTo("first aid");
+    }
+
+    @Test
+    void csvQuotesFieldsThatNeedIt() throws Exception {
+        saveVolunteer("carol", "cooking, \"heavy\" lifting");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportVolunteers(ExportService.Format.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines[0]).isEqualTo("id,userId,name,email,phoneNumber,skills,availability");
+        assertThat(lines[1]).endsWith(",carol,carol@example.org,,\"cooking, \"\"heavy\"\" lifting\",");
+    }
+
+    @Test
+    void csvNeutralizesTextThatLooksLikeAFormula() throws Exception {
+        Volunteer volunteer = saveVolunteer("mallory", "=HYPERLINK(\"http://evil.example\",\"click\")");
+        volunteer.setAvailability("@SUM(1+1)");
+        volunteer.setPhoneNumber("-1");
+        volunteerRepository.save(volunteer);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportVolunteers(ExportService.Format.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines[1]).isEqualTo(volunteer.getId() + "," + volunteer.getUser().getId()
+                + ",mallory,mallory@example.org,\"'-1\",\"'=HYPERLINK(\"\"http://evil.example\"\",\"\"click\"\")\",\"'@SUM(1+1)\"");
+    }
+
+    @Test
+    void exportOverItsTimeBudgetIsAborted() {
+        saveVolunteer("dave", "driving");
+        ExportService impatient = new ExportService(volunteerRepository, eventRepository, objectMapper, Duration.ZERO);
+
+        assertThatThrownBy(() -> transactionTemplate.execute(status -> {
+            try {
+                return impatient.exportVolunteers(ExportService.Format.NDJSON, new ByteArrayOutputStream());
+            } catch (IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+        })).hasRootCauseInstanceOf(IOException.class).rootCause().hasMessageContaining("exceeded");
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void eventExportEndpointStreamsCsv() throws Exception {
+        User organizer = saveVolunteer("erin", null).getUser();
+        testData.event("Beach clean-up", organizer, null,
+                LocalDateTime.of(2030, 5, 1, 9, 0), LocalDateTime.of(2030, 5, 1, 12, 0));
+
+        mockMvc.perform(get("/api/events/export").param("format", "csv"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"events.csv\""))
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(content().string(org.hamcrest.Matchers.containsString(
+                        ",Beach clean-up,,,2030-05-01T09:00,2030-05-01T12:00,,0," + organizer.getId() + ",erin,")));
+    }
+
+    private Volunteer saveVolunteer(String name, String skills) {
+        Volunteer volunteer = testData.volunteer(name);
+        volunteer.setSkills(skills);
+        return volunteerRepository.save(volunteer);
+    }
+}
@@ -0,0 +1,108 @@
+package com.volunteer.management.service;
+
+import com.volunteer.management.entity.Event;
+import com.volunteer.management.entity.User;
+import com.volunteer.management.entity.Volunteer;
+import com.volunteer.management.repository.EventRepository;
+import com.volunteer.management.repository.RoleRepository;
+import com.volunteer.management.repository.VolunteerRepository;
+import com.volunteer.management.support.TestData;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SecondLevelCacheTest {
+
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private VolunteerRepository volunteerRepository;
+    @Autowired
+    private RoleRepository roleRepository;
+    @Autowired
+    private SlotReservationService slotReservationService;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+        cache = sessionFactory.getCache();
+        cache.evictAllRegions();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void repeatedEventLookupsHitTheCache() {
+        Long eventId = testData.event("Cached", testData.user("organizer"), 10).getId();
+        cache.evictAllRegions();
+        long hitsBefore = statistics.getDomainDataRegionStatistics("events").getHitCount();
+
+        eventRepository.findById(eventId).orElseThrow();
+        long statementsBefore = statistics.getPrepareStatementCount();
+        eventRepository.findById(eventId).orElseThrow();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statementsBefore);
+        assertThat(statistics.getDomainDataRegionStatistics("events").getHitCount()).isEqualTo(hitsBefore + 1);
+    }
+
+    @Test
+    void slotChangesEvictOnlyTheirEvent() {
+        User organizer = testData.user("organizer");
+        Long changed = testData.event("Changed", organizer, 10).getId();
+        Long untouched = testData.event("Untouched", organizer, 10).getId();
+        Long volunteerId = testData.volunteer("registrant").getId();
+        eventRepository.findAllById(List.of(changed, untouched));
+        volunteerRepository.findById(volunteerId);
+        assertThat(cache.containsEntity(Event.class, changed)).isTrue();
+        assertThat(cache.containsEntity(Event.class, untouched)).isTrue();
+        assertThat(cache.containsEntity(Volunteer.class, volunteerId)).isTrue();
+
+        assertThat(slotReservationService.reserve(changed, volunteerId)).isEqualTo(SlotReservationService.Result.RESERVED);
+
+        assertThat(cache.containsEntity(Event.class, changed)).isFalse();
+        assertThat(cache.containsEntity(Event.class, untouched)).isTrue();
+        assertThat(cache.containsEntity(Volunteer.class, volunteerId)).isTrue();
+        assertThat(eventRepository.findById(changed).orElseThrow().getRegisteredCount()).isEqualTo(1);
+    }
+
+    @Test
+    void roleLookupsUseTheQueryCache() {
+        roleRepository.findByName("ROLE_VOLUNTEER");
+        long hitsBefore = statistics.getQueryCacheHitCount();
+
+        roleRepository.findByName("ROLE_VOLUNTEER");
+
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(hitsBefore + 1);
+    }
+
+    @Test
+    void regionStatisticsArePublishedAsMeters() {
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests").tag("region", "events").meters())
+                .isNotEmpty();
+    }
+}
@@ -0,0 +1,156 @@
+package com.volunteer.management.service;
+
+import com.volunteer.management.dto.EventAssignmentRequest;
+import com.volunteer.management.dto.EventAssignmentResultDto;
+import com.volunteer.management.entity.Event;
+import com.volunteer.management.entity.User;
+import com.volunteer.management.repository.EventRepository;
+import com.volunteer.management.support.TestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Registration rush: many more registrants than slots, all released at once.
+@SpringBootTest
+class SlotReservationServiceConcurrencyTest {
+
+    private static final int SLOTS = 25;
+    private static final int REGISTRANTS = 300;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private SlotReservationService slotReservationService;
+    @Autowired
+    private EventAssignmentService assignmentService;
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void concurrentRegistrantsNeverOverbook() throws Exception {
+        User organizer = testData.user("organizer");
+        Event event = testData.event("Popular event", organizer, SLOTS);
+        List<Long> volunteerIds = new ArrayList<>();
+        for (int i = 0; i < REGISTRANTS; i++) {
+            volunteerIds.add(testData.volunteer("rush" + i).getId());
+        }
+
+        Map<SlotReservationService.Result, Long> outcomes = runConcurrently(volunteerIds.stream()
+                .<Callable<SlotReservationService.Result>>map(id -> () -> slotReservationService.reserve(event.getId(), id))
+                .collect(Collectors.toList()));
+
+        assertThat(outcomes.get(SlotReservationService.Result.RESERVED)).isEqualTo(SLOTS);
+        assertThat(outcomes.get(SlotReservationService.Result.FULL)).isEqualTo(REGISTRANTS - SLOTS);
+        assertThat(joinRows(event.getId())).isEqualTo(SLOTS);
+        assertThat(eventRepository.findRegisteredCount(event.getId())).isEqualTo(SLOTS);
+    }
+
+    @Test
+    void duplicateRegistrationsCountOnce() throws Exception {
+        User organizer = testData.user("organizer");
+        Event event = testData.event("Popular event", organizer, SLOTS);
+        Long volunteerId = testData.volunteer("repeat").getId();
+
+        List<Callable<SlotReservationService.Result>> attempts = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            attempts.add(() -> slotReservationService.reserve(event.getId(), volunteerId));
+        }
+        Map<SlotReservationService.Result, Long> outcomes = runConcurrently(attempts);
+
+        assertThat(outcomes.get(SlotReservationService.Result.RESERVED)).isEqualTo(1);
+        assertThat(joinRows(event.getId())).isEqualTo(1);
+        assertThat(eventRepository.findRegisteredCount(event.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void selfRegistrationRacingBulkAssignmentOfTheSameVolunteer() throws Exception {
+        User organizer = testData.user("organizer");
+        for (int round = 0; round < 25; round++) {
+            Event event = testData.event("Staffed event " + round, organizer, SLOTS);
+            Long contested = testData.volunteer("contested" + round).getId();
+            Long other = testData.volunteer("other" + round).getId();
+
+            // Both paths lock the event row first, so neither deadlocks nor double-books the other
+            List<Callable<Object>> tasks = List.of(
+                    () -> slotReservationService.reserve(event.getId(), contested),
+                    () -> assignmentService.applyAssignments(event.getId(),
+                            new EventAssignmentRequest(List.of(contested, other), null)));
+            Map<Object, Long> outcomes = runConcurrently(tasks);
+
+            EventAssignmentResultDto bulk = (EventAssignmentResultDto) outcomes.keySet().stream()
+                    .filter(EventAssignmentResultDto.class::isInstance).findFirst().orElseThrow();
+            boolean reserved = outcomes.containsKey(SlotReservationService.Result.RESERVED);
+            assertThat(bulk.assigned().contains(contested)).isNotEqualTo(reserved);
+            assertThat(bulk.alreadyAssigned().contains(contested)).isEqualTo(reserved);
+            assertThat(joinRows(event.getId())).isEqualTo(2);
+            assertThat(eventRepository.findRegisteredCount(event.getId())).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void releasedSlotsCanBeTakenAgain() {
+        User organizer = testData.user("organizer");
+        Event event = testData.event("Popular event", organizer, 1);
+        Long first = testData.volunteer("first").getId();
+        Long second = testData.volunteer("second").getId();
+
+        assertThat(slotReservationService.reserve(event.getId(), first)).isEqualTo(SlotReservationService.Result.RESERVED);
+        assertThat(slotReservationService.reserve(event.getId(), second)).isEqualTo(SlotReservationService.Result.FULL);
+        assertThat(joinRows(event.getId())).isEqualTo(1);
+
+        assertThat(slotReservationService.release(event.getId(), first)).isTrue();
+        assertThat(slotReservationService.release(event.getId(), first)).isFalse();
+        assertThat(slotReservationService.reserve(event.getId(), second)).isEqualTo(SlotReservationService.Result.RESERVED);
+        assertThat(eventRepository.findRegisteredCount(event.getId())).isEqualTo(1);
+    }
+
+    private <T> Map<T, Long> runConcurrently(List<Callable<T>> tasks) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (Callable<T> task : tasks) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(60, TimeUnit.SECONDS));
+            }
+            return results.stream().collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private int joinRows(Long eventId) {
+        return jdbcTemplate.queryForObject("select count(*) from event_volunteers where event_id = ?", Integer.class, eventId);
+    }
+}
@@ -0,0 +1,157 @@
+package com.volunteer.management.service;
+
+import com.volunteer.management.dto.AvailabilitySlotDto;
+import com.volunteer.management.dto.CursorPageDto;
+import com.volunteer.management.dto.VolunteerDetailsDto;
+import com.volunteer.management.dto.VolunteerProfileDto;
+import com.volunteer.management.dto.VolunteerSummaryDto;
+import com.volunteer.management.entity.AvailabilitySlot;
+import com.volunteer.management.entity.Event;
+import com.volunteer.management.entity.User;
+import com.volunteer.management.exception.ApiException;
+import com.volunteer.management.repository.UserRepository;
+import com.volunteer.management.support.TestData;
+import com.volunteer.management.util.AvailabilityParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class VolunteerAvailabilityServiceTest {
+
+    // 2030-06-01 is a Saturday
+    private static final LocalDateTime SATURDAY_NINE = LocalDateTime.of(2030, 6, 1, 9, 0);
+
+    @Autowired
+    private VolunteerAvailabilityService availabilityService;
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private VolunteerService volunteerService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        testData.deleteAll();
+        availabilityService.rebuild();
+    }
+
+    @Test
+    void parserReadsDaysRangesAndNamedWindows() {
+        assertThat(AvailabilityParser.parse("Weekends; mon-wed 9-17, Tue evenings, sat 09:30-13:00, whenever"))
+                .containsExactlyInAnyOrder(
+                        slot(DayOfWeek.SATURDAY, 0, 0, 0), slot(DayOfWeek.SUNDAY, 0, 0, 0),
+                        slot(DayOfWeek.MONDAY, 9, 0, 17), slot(DayOfWeek.TUESDAY, 9, 0, 17),
+                        slot(DayOfWeek.WEDNESDAY, 9, 0, 17), slot(DayOfWeek.TUESDAY, 17, 0, 22),
+                        slot(DayOfWeek.SATURDAY, 9, 30, 13));
+        assertThat(AvailabilityParser.parse("evenings")).hasSize(7);
+        assertThat(AvailabilityParser.parse("ask me")).isEmpty();
+    }
+
+    @Test
+    void bitmapMatchesOnlyVolunteersCoveringTheWholeEvent() {
+        AvailabilityBitmap bitmap = new AvailabilityBitmap();
+        bitmap.put(1, List.of(slot(DayOfWeek.SATURDAY, 9, 0, 13)));
+        bitmap.put(2, List.of(slot(DayOfWeek.SATURDAY, 10, 0, 13)));
+        bitmap.put(3, List.of(slot(DayOfWeek.SATURDAY, 0, 0, 0), slot(DayOfWeek.SUNDAY, 0, 0, 2)));
+
+        assertThat(bitmap.availableFor(SATURDAY_NINE, SATURDAY_NINE.plusHours(4))).containsExactly(1, 3);
+        // Starting 09:10 overlaps the 09:00 bucket, so it still needs all of it
+        assertThat(bitmap.availableFor(SATURDAY_NINE.plusMinutes(10), SATURDAY_NINE.plusHours(1))).containsExactly(1, 3);
+        // Across midnight into Sunday
+        assertThat(bitmap.availableFor(SATURDAY_NINE.plusHours(13), SATURDAY_NINE.plusHours(16))).containsExactly(3);
+
+        bitmap.remove(1);
+        bitmap.put(4, List.of(slot(DayOfWeek.SATURDAY, 8, 0, 14)));
+        assertThat(bitmap.availableFor(SATURDAY_NINE, SATURDAY_NINE.plusHours(4))).containsExactly(3, 4);
+        assertThat(bitmap.size()).isEqualTo(3);
+    }
+
+    @Test
+    void findsVolunteersFreeForTheEventAndPages() {
+        Long textOnly = saveDetails("ana", "weekends", null).getVolunteerRecordId();
+        Long explicit = saveDetails("ben", "ask me",
+                List.of(new AvailabilitySlotDto(DayOfWeek.SATURDAY, LocalTime.of(8, 0), LocalTime.of(14, 0))))
+                .getVolunteerRecordId();
+        saveDetails("cat", "weekdays", null);
+        Long eventId = saveEvent(SATURDAY_NINE, SATURDAY_NINE.plusHours(3)).getId();
+
+        CursorPageDto<VolunteerSummaryDto> page = availabilityService.findAvailableForEvent(eventId, null, 1);
+        assertThat(page.getItems()).extracting(VolunteerSummaryDto::getId).containsExactly(textOnly);
+        assertThat(page.getItems().get(0).getName()).isEqualTo("ana");
+        assertThat(page.isHasMore()).isTrue();
+
+        CursorPageDto<VolunteerSummaryDto> next = availabilityService.findAvailableForEvent(eventId, page.getNextCursor(), 1);
+        assertThat(next.getItems()).extracting(VolunteerSummaryDto::getId).containsExactly(explicit);
+        assertThat(next.isHasMore()).isFalse();
+    }
+
+    @Test
+    void indexFollowsUpdatesDeletesAndRebuilds() {
+        VolunteerProfileDto profile = saveDetails("dan", "saturday mornings", null);
+        assertThat(profile.getAvailabilitySlots())
+                .containsExactly(new AvailabilitySlotDto(DayOfWeek.SATURDAY, LocalTime.of(6, 0), LocalTime.NOON));
+        Long eventId = saveEvent(SATURDAY_NINE, SATURDAY_NINE.plusHours(2)).getId();
+        assertThat(ids(eventId)).containsExactly(profile.getVolunteerRecordId());
+
+        saveDetails("dan", "sunday", null);
+        assertThat(ids(eventId)).isEmpty();
+
+        saveDetails("dan", "saturday", null);
+        availabilityService.rebuild();
+        assertThat(ids(eventId)).containsExactly(profile.getVolunteerRecordId());
+
+        volunteerService.deleteVolunteer(profile.getVolunteerRecordId());
+        assertThat(ids(eventId)).isEmpty();
+    }
+
+    @Test
+    void rejectsInvalidSlotsAndBackfillsLegacyText() {
+        assertThatThrownBy(() -> saveDetails("eve", null,
+                List.of(new AvailabilitySlotDto(DayOfWeek.MONDAY, LocalTime.of(14, 0), LocalTime.of(9, 0)))))
+                .isInstanceOf(ApiException.class);
+
+        Long id = saveDetails("fay", null, null).getVolunteerRecordId();
+        jdbcTemplate.update("update volunteers set availability = ? where id = ?", "weekends", id);
+        Long eventId = saveEvent(SATURDAY_NINE, SATURDAY_NINE.plusHours(1)).getId();
+        assertThat(ids(eventId)).isEmpty();
+
+        Long last = availabilityService.reindexBatch(0L);
+
+        assertThat(last).isEqualTo(id);
+        assertThat(availabilityService.reindexBatch(last)).isNull();
+        assertThat(ids(eventId)).containsExactly(id);
+    }
+
+    private List<Long> ids(Long eventId) {
+        return availabilityService.findAvailableForEvent(eventId, null, 100).getItems().stream()
+                .map(VolunteerSummaryDto::getId).toList();
+    }
+
+    private VolunteerProfileDto saveDetails(String name, String availability, List<AvailabilitySlotDto> slots) {
+        User user = userRepository.findByUsername(name).orElseGet(() -> testData.user(name));
+        return volunteerService.createOrUpdateVolunteerDetails(user.getId(),
+                new VolunteerDetailsDto("555-0100", availability, null, slots));
+    }
+
+    private Event saveEvent(LocalDateTime start, LocalDateTime end) {
+        return testData.event("Beach clean-up", testData.user("organizer-" + System.nanoTime()), null, start, end);
+    }
+
+    private static AvailabilitySlot slot(DayOfWeek day, int startHour, int startMinute, int endHour) {
+        return new AvailabilitySlot(day, LocalTime.of(startHour, startMinute), LocalTime.of(endHour, 0));
+    }
+}
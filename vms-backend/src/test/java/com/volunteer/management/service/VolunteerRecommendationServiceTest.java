@@ -0,0 +1,115 @@
+package com.volunteer.management.service;
+
+import com.volunteer.management.dto.VolunteerDetailsDto;
+import com.volunteer.management.dto.VolunteerRecommendationDto;
+import com.volunteer.management.entity.Event;
+import com.volunteer.management.entity.User;
+import com.volunteer.management.repository.EventRepository;
+import com.volunteer.management.support.TestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class VolunteerRecommendationServiceTest {
+
+    // 2030-06-01 is a Saturday
+    private static final LocalDateTime SATURDAY_NINE = LocalDateTime.of(2030, 6, 1, 9, 0);
+
+    @Autowired
+    private VolunteerRecommendationService recommendationService;
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private VolunteerAvailabilityService availabilityService;
+    @Autowired
+    private VolunteerService volunteerService;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        testData.deleteAll();
+        availabilityService.rebuild();
+        recommendationService.refresh();
+    }
+
+    @Test
+    void featuresFindSkillPhrasesAndKeepTheBestK() {
+        VolunteerFeatures features = new VolunteerFeatures.Builder(new long[]{10, 20, 30, 40})
+                .skill(10, "first aid").skill(20, "first aid").skill(30, "first aid").skill(30, "driving")
+                .skill(40, "cooking")
+                .pastEvents(40, 3)
+                .build();
+
+        assertThat(features.skillsMentionedIn("Beach clean-up: First Aid (and driving!) needed"))
+                .containsExactly("first aid", "driving");
+
+        List<VolunteerFeatures.Candidate> best = features.topK(Set.of("first aid", "driving"), new long[]{20}, List.of(), 3);
+        assertThat(best).extracting(candidate -> features.id(candidate.position())).containsExactly(20L, 30L, 10L);
+        // Equal scores go to the lower id
+        assertThat(features.topK(Set.of("first aid"), new long[0], List.of(30L), 1))
+                .extracting(candidate -> features.id(candidate.position())).containsExactly(10L);
+    }
+
+    @Test
+    void ranksBySkillsAvailabilityAndHistoryWithoutConflicts() {
+        Long ana = saveDetails("ana", "First Aid, Driving", "weekends");
+        Long ben = saveDetails("ben", "driving", "weekdays");
+        Long cat = saveDetails("cat", "first aid, driving", "weekends");
+        saveDetails("dan", "cooking", null);
+        Long eve = saveDetails("eve", "first aid", "weekends");
+
+        Event event = saveEvent("Beach clean-up", "We need first aid and driving.", SATURDAY_NINE, SATURDAY_NINE.plusHours(3));
+        assign(event.getId(), eve);
+        Event overlapping = saveEvent("Food bank", null, SATURDAY_NINE.plusHours(1), SATURDAY_NINE.plusHours(2));
+        assign(overlapping.getId(), cat);
+        for (int i = 0; i < 2; i++) {
+            Event past = saveEvent("Past " + i, null, SATURDAY_NINE.minusYears(10 + i), SATURDAY_NINE.minusYears(10 + i).plusHours(1));
+            assign(past.getId(), ben);
+        }
+        recommendationService.refresh();
+
+        List<VolunteerRecommendationDto> recommendations = recommendationService.recommend(event.getId(), 10);
+
+        assertThat(recommendations).extracting(VolunteerRecommendationDto::id).containsExactly(ana, ben);
+        VolunteerRecommendationDto first = recommendations.get(0);
+        assertThat(first.name()).isEqualTo("ana");
+        assertThat(first.matchedSkills()).containsExactly("driving", "first aid");
+        assertThat(first.available()).isTrue();
+        assertThat(first.score()).isEqualTo(0.8);
+        VolunteerRecommendationDto second = recommendations.get(1);
+        assertThat(second.available()).isFalse();
+        assertThat(second.pastEvents()).isEqualTo(2);
+        assertThat(second.score()).isEqualTo(0.45);
+
+        assertThat(recommendationService.recommend(event.getId(), 1)).extracting(VolunteerRecommendationDto::id)
+                .containsExactly(ana);
+    }
+
+    private void assign(Long eventId, Long volunteerId) {
+        jdbcTemplate.update("insert into event_volunteers (event_id, volunteer_id) values (?, ?)", eventId, volunteerId);
+    }
+
+    private Long saveDetails(String name, String skills, String availability) {
+        User user = testData.user(name);
+        return volunteerService.createOrUpdateVolunteerDetails(user.getId(),
+                new VolunteerDetailsDto("555-0100", availability, skills, null)).getVolunteerRecordId();
+    }
+
+    private Event saveEvent(String name, String description, LocalDateTime start, LocalDateTime end) {
+        Event event = testData.event(name, testData.user("organizer-" + System.nanoTime()), null, start, end);
+        event.setDescription(description);
+        return eventRepository.save(event);
+    }
+}
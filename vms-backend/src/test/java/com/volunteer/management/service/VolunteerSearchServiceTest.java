@@ -0,0 +1,107 @@
+package com.volunteer.management.service;
+
+import com.volunteer.management.dto.CursorPageDto;
+import com.volunteer.management.dto.VolunteerDto;
+import com.volunteer.management.dto.VolunteerSearchResultDto;
+import com.volunteer.management.entity.Volunteer;
+import com.volunteer.management.repository.VolunteerRepository;
+import com.volunteer.management.support.TestData;
+import com.volunteer.management.util.SkillTokenizer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class VolunteerSearchServiceTest {
+
+    @Autowired
+    private VolunteerSearchService searchService;
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private VolunteerService volunteerService;
+    @Autowired
+    private VolunteerRepository volunteerRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void tokenizerNormalizesSeparatorsCaseAndWhitespace() {
+        assertThat(SkillTokenizer.tokenize(" First  Aid, driving;Spanish / first aid\n"))
+                .containsExactly("first aid", "driving", "spanish");
+        assertThat(SkillTokenizer.tokenize(" , ;")).isEmpty();
+    }
+
+    @Test
+    void ranksByNumberOfMatchedSkillsThenId() {
+        Long both = save("ana", "First Aid, Driving").getId();
+        Long one = save("ben", "driving, cooking").getId();
+        save("cat", "cooking");
+
+        List<VolunteerSearchResultDto> hits = searchService.search("first aid, DRIVING", null, 10).getItems();
+
+        assertThat(hits).extracting(VolunteerSearchResultDto::id).containsExactly(both, one);
+        assertThat(hits.get(0).score()).isEqualTo(2);
+        assertThat(hits.get(0).matchedSkills()).containsExactly("driving", "first aid");
+        assertThat(hits.get(0).name()).isEqualTo("ana");
+        assertThat(hits.get(1).matchedSkills()).containsExactly("driving");
+    }
+
+    @Test
+    void pagesWithTheCursor() {
+        Long first = save("dan", "driving, first aid").getId();
+        Long second = save("eve", "driving").getId();
+        Long third = save("fay", "driving").getId();
+
+        CursorPageDto<VolunteerSearchResultDto> page = searchService.search("driving,first aid", null, 2);
+        assertThat(page.getItems()).extracting(VolunteerSearchResultDto::id).containsExactly(first, second);
+        assertThat(page.isHasMore()).isTrue();
+
+        CursorPageDto<VolunteerSearchResultDto> next = searchService.search("driving,first aid", page.getNextCursor(), 2);
+        assertThat(next.getItems()).extracting(VolunteerSearchResultDto::id).containsExactly(third);
+        assertThat(next.isHasMore()).isFalse();
+        assertThat(next.getNextCursor()).isNull();
+    }
+
+    @Test
+    void updatingSkillsReindexes() {
+        Volunteer volunteer = save("gus", "driving");
+
+        volunteerService.updateVolunteer(volunteer.getId(), new VolunteerDto(volunteer.getId(), null, "Carpentry", null));
+
+        assertThat(searchService.search("driving", null, 10).getItems()).isEmpty();
+        assertThat(searchService.search("carpentry", null, 10).getItems())
+                .extracting(VolunteerSearchResultDto::id).containsExactly(volunteer.getId());
+    }
+
+    @Test
+    void reindexBatchBackfillsRowsWrittenWithPlainSql() {
+        Long id = save("hal", null).getId();
+        jdbcTemplate.update("update volunteers set skills = ? where id = ?", "Sign Language", id);
+        assertThat(searchService.search("sign language", null, 10).getItems()).isEmpty();
+
+        Long last = searchService.reindexBatch(0L);
+
+        assertThat(last).isEqualTo(id);
+        assertThat(searchService.reindexBatch(last)).isNull();
+        assertThat(searchService.search("sign language", null, 10).getItems())
+                .extracting(VolunteerSearchResultDto::id).containsExactly(id);
+    }
+
+    private Volunteer save(String name, String skills) {
+        Volunteer volunteer = testData.volunteer(name);
+        volunteer.setSkills(skills);
+        return volunteerRepository.save(volunteer);
+    }
+}
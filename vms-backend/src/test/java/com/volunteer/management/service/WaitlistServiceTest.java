@@ -0,0 +1,174 @@
+package com.volunteer.management.service;
+
+import com.volunteer.management.dto.EventDto;
+import com.volunteer.management.dto.RegistrationResultDto;
+import com.volunteer.management.entity.Event;
+import com.volunteer.management.entity.User;
+import com.volunteer.management.entity.Volunteer;
+import com.volunteer.management.repository.EventRepository;
+import com.volunteer.management.repository.WaitlistRepository;
+import com.volunteer.management.support.TestData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class WaitlistServiceTest {
+
+    @Autowired
+    private RegistrationService registrationService;
+    @Autowired
+    private TestData testData;
+    @Autowired
+    private EventService eventService;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private WaitlistRepository waitlistRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        testData.deleteAll();
+    }
+
+    @Test
+    void fullEventQueuesInFifoOrderAndPromotesOnUnassign() {
+        Event event = testData.event("Beach cleanup", testData.user("organizer"), 1);
+        Volunteer first = testData.volunteer("first");
+        Volunteer second = testData.volunteer("second");
+        Volunteer third = testData.volunteer("third");
+
+        assertThat(register(event, first).status()).isEqualTo(RegistrationResultDto.Status.REGISTERED);
+        RegistrationResultDto queuedSecond = register(event, second);
+        RegistrationResultDto queuedThird = register(event, third);
+        assertThat(queuedSecond.status()).isEqualTo(RegistrationResultDto.Status.WAITLISTED);
+        assertThat(queuedSecond.waitlistPosition()).isEqualTo(1);
+        assertThat(queuedThird.waitlistPosition()).isEqualTo(2);
+        // Retrying keeps the original place
+        assertThat(register(event, third).waitlistPosition()).isEqualTo(2);
+
+        eventService.unassignVolunteerFromEvent(event.getId(), first.getId());
+
+        assertThat(assignedVolunteerIds(event)).containsExactly(second.getId());
+        assertThat(register(event, third).waitlistPosition()).isEqualTo(1);
+        assertThat(eventRepository.findRegisteredCount(event.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void capacityIncreasePromotesAsManyAsFit() {
+        Event event = testData.event("Beach cleanup", testData.user("organizer"), 1);
+        register(event, testData.volunteer("taken"));
+        List<Volunteer> waiting = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Volunteer volunteer = testData.volunteer("waiting" + i);
+            waiting.add(volunteer);
+            register(event, volunteer);
+        }
+
+        EventDto update = eventService.getEventById(event.getId());
+        update.setSlotsAvailable(3);
+        eventService.updateEvent(event.getId(), update);
+
+        assertThat(assignedVolunteerIds(event))
+                .contains(waiting.get(0).getId(), waiting.get(1).getId())
+                .doesNotContain(waiting.get(2).getId(), waiting.get(3).getId());
+        assertThat(waitlistRepository.count()).isEqualTo(2);
+        assertThat(eventRepository.findRegisteredCount(event.getId())).isEqualTo(3);
+    }
+
+    @Test
+    void concurrentUnassignsPromoteDistinctVolunteers() throws Exception {
+        int slots = 10;
+        Event event = testData.event("Beach cleanup", testData.user("organizer"), slots);
+        List<Volunteer> assigned = new ArrayList<>();
+        for (int i = 0; i < slots; i++) {
+            Volunteer volunteer = testData.volunteer("assigned" + i);
+            assigned.add(volunteer);
+            register(event, volunteer);
+        }
+        for (int i = 0; i < 20; i++) {
+            register(event, testData.volunteer("queued" + i));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(slots);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Volunteer volunteer : assigned) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return eventService.unassignVolunteerFromEvent(event.getId(), volunteer.getId());
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // Every freed slot went to a distinct waiting volunteer, and nobody was lost from the queue
+        assertThat(assignedVolunteerIds(event)).hasSize(slots).doesNotContainAnyElementsOf(
+                assigned.stream().map(Volunteer::getId).toList());
+        assertThat(eventRepository.findRegisteredCount(event.getId())).isEqualTo(slots);
+        assertThat(waitlistRepository.count()).isEqualTo(10);
+    }
+
+    @Test
+    void cancelRacingARegistrationForAFullEventNeverStrandsTheSlot() throws Exception {
+        User organizer = testData.user("organizer");
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 25; round++) {
+                Event event = testData.event("Beach cleanup", organizer, 1);
+                Volunteer leaving = testData.volunteer("leaving" + round);
+                Volunteer joining = testData.volunteer("joining" + round);
+                register(event, leaving);
+
+                CyclicBarrier start = new CyclicBarrier(2);
+                Future<?> cancel = pool.submit(() -> {
+                    start.await();
+                    return eventService.unassignVolunteerFromEvent(event.getId(), leaving.getId());
+                });
+                Future<?> registration = pool.submit(() -> {
+                    start.await();
+                    return register(event, joining);
+                });
+                cancel.get(30, TimeUnit.SECONDS);
+                registration.get(30, TimeUnit.SECONDS);
+
+                // Whichever way the two interleave (registered directly, promoted by the cancel,
+                // or promoted by its own enqueue), the joining volunteer ends up in the freed slot
+                assertThat(assignedVolunteerIds(event)).containsExactly(joining.getId());
+                assertThat(eventRepository.findRegisteredCount(event.getId())).isEqualTo(1);
+                assertThat(waitlistRepository.count()).isZero();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private RegistrationResultDto register(Event event, Volunteer volunteer) {
+        return registrationService.registerCurrentUserForEvent(event.getId(), volunteer.getUser().getId());
+    }
+
+    private List<Long> assignedVolunteerIds(Event event) {
+        return jdbcTemplate.queryForList("select volunteer_id from event_volunteers where event_id = ?", Long.class, event.getId());
+    }
+}
@@ -0,0 +1,90 @@
+package com.volunteer.management.support;
+
+import com.volunteer.management.entity.Event;
+import com.volunteer.management.entity.User;
+import com.volunteer.management.entity.Volunteer;
+import com.volunteer.management.repository.EventRepository;
+import com.volunteer.management.repository.EventSeriesRepository;
+import com.volunteer.management.repository.UserRepository;
+import com.volunteer.management.repository.VolunteerRepository;
+import com.volunteer.management.repository.WaitlistRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Saved fixtures for the database-backed tests, with defaults for everything a test doesn't
+ * care about, and one cleanup that deletes in foreign-key order. Picked up by component
+ * scanning, so every @SpringBootTest context has it without changing the context cache key.
+ */
+@Component
+public class TestData {
+
+    public static final String PASSWORD = "{noop}secret";
+
+    private final UserRepository userRepository;
+    private final VolunteerRepository volunteerRepository;
+    private final EventRepository eventRepository;
+    private final EventSeriesRepository eventSeriesRepository;
+    private final WaitlistRepository waitlistRepository;
+
+    public TestData(UserRepository userRepository, VolunteerRepository volunteerRepository,
+                    EventRepository eventRepository, EventSeriesRepository eventSeriesRepository,
+                    WaitlistRepository waitlistRepository) {
+        this.userRepository = userRepository;
+        this.volunteerRepository = volunteerRepository;
+        this.eventRepository = eventRepository;
+        this.eventSeriesRepository = eventSeriesRepository;
+        this.waitlistRepository = waitlistRepository;
+    }
+
+    // name is the display name and username; the email is name@example.org
+    public User user(String name) {
+        return user(name, name + "@example.org");
+    }
+
+    public User user(String username, String email) {
+        User user = new User();
+        user.setName(username);
+        user.setUsername(username);
+        user.setEmail(email);
+        user.setPassword(PASSWORD);
+        return userRepository.save(user);
+    }
+
+    // A volunteer profile for a new user called name
+    public Volunteer volunteer(String name) {
+        return volunteer(user(name));
+    }
+
+    public Volunteer volunteer(User user) {
+        Volunteer volunteer = new Volunteer();
+        volunteer.setUser(user);
+        return volunteerRepository.save(volunteer);
+    }
+
+    // Starts tomorrow and runs for two hours; null slots means unlimited
+    public Event event(String name, User organizer, Integer slots) {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        return event(name, organizer, slots, start, start.plusHours(2));
+    }
+
+    public Event event(String name, User organizer, Integer slots, LocalDateTime start, LocalDateTime end) {
+        Event event = new Event();
+        event.setName(name);
+        event.setStartDateTime(start);
+        event.setEndDateTime(end);
+        event.setSlotsAvailable(slots);
+        event.setOrganizer(organizer);
+        return eventRepository.save(event);
+    }
+
+    // Everything the factories and the code under test create, children first
+    public void deleteAll() {
+        waitlistRepository.deleteAll();
+        eventRepository.deleteAll();
+        eventSeriesRepository.deleteAll();
+        volunteerRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+}
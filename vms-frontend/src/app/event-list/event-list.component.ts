@@ -4,6 +4,7 @@ import { EventService } from '../event.service'; // Adjust path
 import { AuthService } from '../auth.service'; // Adjust path
 import { RegistrationService } from '../registration.service'; // Adjust path
 import { Event } from '../models/event.model'; // Adjust path
+import { CursorPage } from '../models/cursor-page.model';
 import { Subject, Subscription, Observable, combineLatest, of, pipe } from 'rxjs';
 import { takeUntil, catchError, tap, map, startWith, finalize } from 'rxjs/operators'; // Added finalize
 import { RouterModule } from '@angular/router';
@@ -31,6 +32,12 @@ export class EventListComponent implements OnInit, OnDestroy {
   deleteError: string | null = null;
   searchTerm: string = '';
 
+  // Keyset paging: the list holds the pages loaded so far, "Load more" follows nextCursor
+  nextCursor: string | null = null;
+  hasMore = false;
+  isLoadingMore = false;
+  private listFrom = new Date();
+
   // --- New properties for registration ---
   userRegisteredEventIds = new Set<number>();
   isFetchingRegistrations = false;
@@ -88,14 +95,17 @@ export class EventListComponent implements OnInit, OnDestroy {
     this.isLoading = true;
     this.error = null;
     this.deleteError = null;
-    this.eventService.getEvents()
+    this.allEvents = [];
+    this.nextCursor = null;
+    this.hasMore = false;
+    // Upcoming events only, starting with today's so events already under way still show
+    this.listFrom = new Date();
+    this.listFrom.setHours(0, 0, 0, 0);
+    this.eventService.getEventsPage(undefined, undefined, this.listFrom)
       .pipe(takeUntil(this.destroy$))
       .subscribe({
-        next: (events) => {
-          // *** V IMPORTANT: PARSE DATES HERE ***
-          this.allEvents = events.map(event => this.parseEventDates(event));
-          // *************************************
-          this.filterEvents();
+        next: (page) => {
+          this.appendPage(page);
           this.isLoading = false;
           // this.cdRef.markForCheck(); // If using OnPush
         },
@@ -108,6 +118,38 @@ export class EventListComponent implements OnInit, OnDestroy {
       });
   }
 
+  loadMoreEvents(): void {
+    if (!this.hasMore || !this.nextCursor || this.isLoadingMore) {
+      return;
+    }
+    this.isLoadingMore = true;
+    this.error = null;
+    this.eventService.getEventsPage(this.nextCursor, undefined, this.listFrom)
+      .pipe(
+        takeUntil(this.destroy$),
+        finalize(() => {
+          this.isLoadingMore = false;
+          // this.cdRef.markForCheck(); // If using OnPush
+        })
+      )
+      .subscribe({
+        next: (page) => this.appendPage(page),
+        error: (err) => {
+          console.error('Error loading more events:', err);
+          this.error = 'Failed to load more events. Please try again.';
+        }
+      });
+  }
+
+  private appendPage(page: CursorPage<Event>): void {
+    // *** V IMPORTANT: PARSE DATES HERE ***
+    this.allEvents = [...this.allEvents, ...page.items.map(event => this.parseEventDates(event))];
+    // *************************************
+    this.nextCursor = page.nextCursor ?? null;
+    this.hasMore = page.hasMore && !!page.nextCursor;
+    this.filterEvents();
+  }
+
   // --- START: DATE PARSING HELPER FUNCTIONS ---
   private parseCustomDateString(dateString: any): Date | null {
      // Handle cases where it might already be a Date or null/undefined
@@ -1,8 +1,9 @@
 // src/app/event.service.ts
 import { Injectable } from '@angular/core';
-import { HttpClient } from '@angular/common/http';
+import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
 import { Event } from './models/event.model'; // Import the Event model
+import { CursorPage } from './models/cursor-page.model';
 import { environment } from '../environments/environment';
 
 @Injectable({
@@ -13,9 +14,25 @@ export class EventService {
 
   constructor(private http: HttpClient) { }
 
-  getEvents(): Observable<Event[]> {
+  // The backend returns events one keyset page at a time, in start order. Pass the page's
+  // nextCursor back to get the next one; from limits the listing to events starting at or after it.
+  getEventsPage(cursor?: string, size = 20, from?: Date): Observable<CursorPage<Event>> {
+    let params = new HttpParams().set('size', size);
+    if (cursor) {
+      params = params.set('cursor', cursor);
+    }
+    if (from) {
+      params = params.set('from', this.toLocalDateTime(from));
+    }
     console.log('EventService: Fetching events from', this.apiUrl);
-    return this.http.get<Event[]>(this.apiUrl);
+    return this.http.get<CursorPage<Event>>(this.apiUrl, { params });
+  }
+
+  // The backend stores local date-times, so send the browser's wall-clock time without an offset
+  private toLocalDateTime(date: Date): string {
+    const pad = (n: number) => String(n).padStart(2, '0');
+    return `${date.getFullYear()}-${pad(date.getMonth() + 1)}-${pad(date.getDate())}` +
+      `T${pad(date.getHours())}:${pad(date.getMinutes())}:${pad(date.getSeconds())}`;
   }
 
   getEventById(id: number): Observable<Event> {
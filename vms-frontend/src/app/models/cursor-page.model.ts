@@ -0,0 +1,5 @@
+export interface CursorPage<T> {
+    items: T[];
+    nextCursor?: string; // Pass back to fetch the next page
+    hasMore: boolean;
+}